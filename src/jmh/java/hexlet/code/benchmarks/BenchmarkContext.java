@@ -0,0 +1,46 @@
+package hexlet.code.benchmarks;
+
+import hexlet.code.AppApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public final class BenchmarkContext {
+    private static final int LABELS_PER_TASK_MODULO = 3;
+
+    private BenchmarkContext() {
+    }
+
+    public static ConfigurableApplicationContext start(String name) {
+        return new SpringApplicationBuilder(AppApplication.class).run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1",
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.generate_statistics=false",
+                "--logging.level.root=WARN",
+                "--logging.level.hexlet.code=WARN",
+                "--logging.level.org.springframework.security=WARN");
+    }
+
+    public static void seedTasks(ConfigurableApplicationContext context, int tasks) {
+        var jdbc = context.getBean(JdbcTemplate.class);
+
+        jdbc.update("""
+                INSERT INTO tasks (id, name, index, description, status_id, assignee_id, created_at, version)
+                SELECT r.x, 'Task ' || r.x, MOD(r.x, 1000), 'Benchmark task ' || r.x, s.id,
+                       CASE WHEN MOD(r.x, 2) = 0 THEN (SELECT MIN(id) FROM users) END,
+                       DATEADD('SECOND', r.x, TIMESTAMP '2024-01-01 00:00:00'), 0
+                FROM SYSTEM_RANGE(1, ?) r
+                JOIN (SELECT id, ROW_NUMBER() OVER (ORDER BY id) - 1 AS position FROM task_statuses) s
+                  ON s.position = MOD(r.x, (SELECT COUNT(*) FROM task_statuses))
+                """, tasks);
+        jdbc.update("""
+                INSERT INTO task_labels (task_id, label_id)
+                SELECT r.x, (SELECT MIN(id) FROM labels)
+                FROM SYSTEM_RANGE(1, ?) r
+                WHERE MOD(r.x, ?) = 0
+                """, tasks, LABELS_PER_TASK_MODULO);
+        jdbc.execute("ALTER SEQUENCE tasks_seq RESTART WITH " + (tasks + 1));
+        jdbc.execute("ANALYZE");
+    }
+}
@@ -0,0 +1,72 @@
+package hexlet.code.benchmarks;
+
+import hexlet.code.components.JwtUtils;
+import hexlet.code.models.User;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtUtilsBenchmark {
+    private JwtUtils jwtUtils;
+    private User user;
+    private String token;
+    private SecretKey legacyKey;
+    private String legacyToken;
+
+    @Setup
+    public void setUp() {
+        user = new User();
+
+        user.setId(1L);
+        user.setEmail("hexlet@example.com");
+        user.setRole("ROLE_ADMIN");
+
+        jwtUtils = new JwtUtils();
+        token = jwtUtils.generateToken(user);
+
+        legacyKey = Keys.hmacShaKeyFor("benchmark-secret-key-at-least-32-characters-long".getBytes(StandardCharsets.UTF_8));
+        legacyToken = Jwts.builder()
+                .subject("hexlet@example.com")
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + 86400000))
+                .signWith(legacyKey)
+                .compact();
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtils.generateToken(user);
+    }
+
+    @Benchmark
+    public String parserPerCall() {
+        Jwts.parser().verifyWith(legacyKey).build().parseSignedClaims(legacyToken);
+
+        return Jwts.parser().verifyWith(legacyKey).build().parseSignedClaims(legacyToken).getPayload().getSubject();
+    }
+
+    @Benchmark
+    public String parseAndValidate() {
+        return jwtUtils.parseAndValidate(token).subject();
+    }
+}
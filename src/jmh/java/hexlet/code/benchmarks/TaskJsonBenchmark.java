@@ -0,0 +1,61 @@
+package hexlet.code.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import hexlet.code.dtos.response.TaskResponseDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskJsonBenchmark {
+    @Param({"20", "1000"})
+    private int size;
+
+    private ObjectWriter writer;
+    private List<TaskResponseDto> tasks;
+
+    @Setup
+    public void setUp() {
+        var createdAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+        writer = Jackson2ObjectMapperBuilder.json().build().writerFor(List.class);
+        tasks = LongStream.rangeClosed(1, size)
+                .mapToObj(id -> TaskResponseDto.builder()
+                        .id(id)
+                        .index((int) id)
+                        .title("Task " + id)
+                        .content("Benchmark task " + id)
+                        .status("draft")
+                        .assigneeId(1L)
+                        .taskLabelIds(Set.of(1L, 2L))
+                        .createdAt(createdAt.plusSeconds(id))
+                        .build())
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return writer.writeValueAsBytes(tasks);
+    }
+}
@@ -0,0 +1,104 @@
+package hexlet.code.benchmarks;
+
+import hexlet.code.dtos.TaskView;
+import hexlet.code.dtos.requests.TaskRequestDto;
+import hexlet.code.dtos.response.TaskResponseDto;
+import hexlet.code.mappers.TaskMapper;
+import hexlet.code.models.Label;
+import hexlet.code.models.Task;
+import hexlet.code.models.TaskStatus;
+import hexlet.code.models.User;
+import hexlet.code.repositories.LabelRepository;
+import hexlet.code.repositories.TaskStatusRepository;
+import hexlet.code.repositories.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskMapperBenchmark {
+    private ConfigurableApplicationContext context;
+    private TaskMapper taskMapper;
+    private TaskRequestDto request;
+    private Task task;
+    private TaskView view;
+    private Set<Long> labelIds;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start("mapping");
+        taskMapper = context.getBean(TaskMapper.class);
+
+        var status = context.getBean(TaskStatusRepository.class).findBySlug("draft").orElseThrow();
+        var assignee = context.getBean(UserRepository.class).findAll().getFirst();
+        var labels = new HashSet<>(context.getBean(LabelRepository.class).findAll());
+
+        labelIds = labels.stream().map(Label::getId).collect(Collectors.toSet());
+        request = TaskRequestDto.builder()
+                .index(1)
+                .title("Benchmark task")
+                .content("Benchmark content")
+                .slug(status.getSlug())
+                .assigneeId(assignee.getId())
+                .taskLabelIds(labelIds)
+                .build();
+        task = task(status, assignee, labels);
+        view = new TaskView(1L, 1, "Benchmark task", "Benchmark content", status.getSlug(), assignee.getId(),
+                task.getCreatedAt());
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Task toEntity() {
+        return taskMapper.toEntity(request);
+    }
+
+    @Benchmark
+    public TaskResponseDto toResponse() {
+        return taskMapper.toResponse(task);
+    }
+
+    @Benchmark
+    public TaskResponseDto toResponseFromView() {
+        return taskMapper.toResponse(view, labelIds);
+    }
+
+    private static Task task(TaskStatus status, User assignee, Set<Label> labels) {
+        var task = new Task();
+
+        task.setId(1L);
+        task.setIndex(1);
+        task.setName("Benchmark task");
+        task.setDescription("Benchmark content");
+        task.setTaskStatus(status);
+        task.setAssignee(assignee);
+        task.setLabels(labels);
+        task.setCreatedAt(LocalDateTime.now());
+
+        return task;
+    }
+}
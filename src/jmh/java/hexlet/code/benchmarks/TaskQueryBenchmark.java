@@ -0,0 +1,76 @@
+package hexlet.code.benchmarks;
+
+import hexlet.code.dtos.requests.FilterRequestDto;
+import hexlet.code.dtos.response.TaskResponseDto;
+import hexlet.code.services.impl.TaskServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class TaskQueryBenchmark {
+    @Param({"10000", "100000", "1000000"})
+    private int tasks;
+
+    private ConfigurableApplicationContext context;
+    private TaskServiceImpl taskService;
+    private TransactionTemplate readOnlyTransaction;
+    private FilterRequestDto allTasks;
+    private FilterRequestDto selectiveFilter;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start("tasks-" + tasks);
+        BenchmarkContext.seedTasks(context, tasks);
+
+        taskService = context.getBean(TaskServiceImpl.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+        allTasks = FilterRequestDto.builder().build();
+        selectiveFilter = FilterRequestDto.builder()
+                .slug(List.of("draft"))
+                .indexFrom(0)
+                .indexTo(9)
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<TaskResponseDto> findAll() {
+        return readOnlyTransaction.execute(status -> taskService.findAll(null, null));
+    }
+
+    @Benchmark
+    public List<TaskResponseDto> findByFilter() {
+        return taskService.findByFilter(allTasks);
+    }
+
+    @Benchmark
+    public List<TaskResponseDto> findByFilterSelective() {
+        return taskService.findByFilter(selectiveFilter);
+    }
+}
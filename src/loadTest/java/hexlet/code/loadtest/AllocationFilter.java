@@ -0,0 +1,56 @@
+package hexlet.code.loadtest;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class AllocationFilter extends OncePerRequestFilter {
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private final LongAdder requests = new LongAdder();
+
+    public AllocationFilter() {
+        if (!threads.isThreadAllocatedMemorySupported()) {
+            throw new IllegalStateException("JVM не поддерживает учёт выделенной потоками памяти");
+        }
+
+        threads.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    public Snapshot snapshot() {
+        var allocatedBytes = threads.getTotalThreadAllocatedBytes();
+
+        if (allocatedBytes < 0) {
+            throw new IllegalStateException("Учёт выделенной потоками памяти отключён");
+        }
+
+        return new Snapshot(allocatedBytes, requests.sum());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            requests.increment();
+        }
+    }
+
+    public record Snapshot(long allocatedBytes, long requests) {
+        public double bytesPerRequestSince(Snapshot start) {
+            var count = requests - start.requests;
+
+            return count == 0 ? 0 : (double) (allocatedBytes - start.allocatedBytes) / count;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package hexlet.code.loadtest;
+
+import hexlet.code.models.Label;
+import hexlet.code.models.Task;
+import hexlet.code.models.TaskStatus;
+import hexlet.code.models.User;
+import hexlet.code.repositories.LabelRepository;
+import hexlet.code.repositories.TaskRepository;
+import hexlet.code.repositories.TaskStatusRepository;
+import hexlet.code.repositories.UserRepository;
+import org.springframework.context.ApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.IntFunction;
+
+public class DataGenerator {
+    public static final String PASSWORD = "load-test";
+
+    private static final int CHUNK_SIZE = 1000;
+    private static final int MAX_LABELS_PER_TASK = 3;
+
+    private final UserRepository userRepository;
+    private final TaskStatusRepository taskStatusRepository;
+    private final LabelRepository labelRepository;
+    private final TaskRepository taskRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final TransactionTemplate transactionTemplate;
+    private final Random random;
+
+    public DataGenerator(ApplicationContext context, long seed) {
+        this.userRepository = context.getBean(UserRepository.class);
+        this.taskStatusRepository = context.getBean(TaskStatusRepository.class);
+        this.labelRepository = context.getBean(LabelRepository.class);
+        this.taskRepository = context.getBean(TaskRepository.class);
+        this.passwordEncoder = context.getBean(PasswordEncoder.class);
+        this.transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        this.random = new Random(seed);
+    }
+
+    public LoadDataset generate(int users, int statuses, int labels, int tasks, int disposableTasks) {
+        var passwordHash = passwordEncoder.encode(PASSWORD);
+        var savedUsers = save(users, i -> user(i, passwordHash), userRepository::saveAll);
+        var savedStatuses = new ArrayList<>(taskStatusRepository.findAll());
+
+        savedStatuses.addAll(save(statuses, DataGenerator::status, taskStatusRepository::saveAll));
+
+        var savedLabels = save(labels, DataGenerator::label, labelRepository::saveAll);
+        var savedTasks = save(tasks + disposableTasks, i -> task(i, savedUsers, savedStatuses, savedLabels),
+                taskRepository::saveAll);
+        var taskIds = savedTasks.stream().map(Task::getId).toList();
+
+        return new LoadDataset(
+                savedUsers.stream().map(User::getEmail).toList(),
+                savedUsers.stream().map(User::getId).toList(),
+                savedStatuses.stream().map(TaskStatus::getSlug).toList(),
+                savedLabels.stream().map(Label::getId).toList(),
+                taskIds.subList(0, tasks),
+                new ConcurrentLinkedQueue<>(taskIds.subList(tasks, taskIds.size())));
+    }
+
+    private <E> List<E> save(int count, IntFunction<E> factory, ChunkSaver<E> saver) {
+        var saved = new ArrayList<E>(count);
+
+        for (var from = 0; from < count; from += CHUNK_SIZE) {
+            var chunk = new ArrayList<E>(CHUNK_SIZE);
+
+            for (var i = from; i < Math.min(from + CHUNK_SIZE, count); i++) {
+                chunk.add(factory.apply(i));
+            }
+
+            saved.addAll(transactionTemplate.execute(status -> saver.saveAll(chunk)));
+        }
+
+        return saved;
+    }
+
+    private static User user(int i, String passwordHash) {
+        var user = new User();
+
+        user.setEmail("user" + i + "@load.test");
+        user.setFirstName("User");
+        user.setLastName(String.valueOf(i));
+        user.setPassword(passwordHash);
+        user.setRole("ROLE_USER");
+
+        return user;
+    }
+
+    private static TaskStatus status(int i) {
+        var status = new TaskStatus();
+
+        status.setName("Load status " + i);
+        status.setSlug("load_status_" + i);
+
+        return status;
+    }
+
+    private static Label label(int i) {
+        var label = new Label();
+
+        label.setName("load-label-" + i);
+
+        return label;
+    }
+
+    private Task task(int i, List<User> users, List<TaskStatus> statuses, List<Label> labels) {
+        var task = new Task();
+        var taskLabels = new HashSet<Label>();
+
+        for (var j = random.nextInt(MAX_LABELS_PER_TASK + 1); j > 0 && !labels.isEmpty(); j--) {
+            taskLabels.add(labels.get(random.nextInt(labels.size())));
+        }
+
+        task.setName("Load task " + i);
+        task.setDescription("Generated task " + i + " for load testing");
+        task.setIndex(random.nextInt(10_000));
+        task.setTaskStatus(statuses.get(random.nextInt(statuses.size())));
+        task.setAssignee(users.isEmpty() || random.nextInt(4) == 0 ? null : users.get(random.nextInt(users.size())));
+        task.setLabels(taskLabels);
+
+        return task;
+    }
+
+    @FunctionalInterface
+    private interface ChunkSaver<E> {
+        List<E> saveAll(List<E> chunk);
+    }
+}
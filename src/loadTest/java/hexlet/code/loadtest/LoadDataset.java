@@ -0,0 +1,13 @@
+package hexlet.code.loadtest;
+
+import java.util.List;
+import java.util.Queue;
+
+public record LoadDataset(
+        List<String> userEmails,
+        List<Long> userIds,
+        List<String> statusSlugs,
+        List<Long> labelIds,
+        List<Long> taskIds,
+        Queue<Long> disposableTaskIds
+) {}
@@ -0,0 +1,144 @@
+package hexlet.code.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+public class LoadGenerator implements AutoCloseable {
+    public static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpClient client = HttpClient.newBuilder()
+            .executor(executor)
+            .connectTimeout(REQUEST_TIMEOUT)
+            .build();
+    private final Duration warmup;
+    private final Duration duration;
+
+    public LoadGenerator(Duration warmup, Duration duration) {
+        this.warmup = warmup;
+        this.duration = duration;
+    }
+
+    public String send(HttpRequest request) throws IOException, InterruptedException {
+        var response = client.send(request, HttpResponse.BodyHandlers.ofString());
+
+        if (response.statusCode() / 100 != 2) {
+            throw new IOException("%s %s вернул %s".formatted(request.method(), request.uri(),
+                    response.statusCode()));
+        }
+
+        return response.body();
+    }
+
+    public LoadResult run(String name, int clients, Supplier<HttpRequest> request) throws InterruptedException {
+        return run(name, clients, client -> request);
+    }
+
+    public LoadResult run(String name, int clients, IntFunction<Supplier<HttpRequest>> requestPerClient)
+            throws InterruptedException {
+        var start = new CountDownLatch(1);
+        var measureFrom = new AtomicLong();
+        var stopAt = new AtomicLong();
+        var errors = new AtomicLong();
+        var workers = new ArrayList<Future<long[]>>(clients);
+
+        for (var i = 0; i < clients; i++) {
+            var request = requestPerClient.apply(i);
+
+            workers.add(executor.submit(() -> {
+                var latencies = new long[64];
+                var count = 0;
+
+                start.await();
+
+                while (System.nanoTime() < stopAt.get()) {
+                    var sent = System.nanoTime();
+                    var ok = execute(request.get());
+                    var received = System.nanoTime();
+
+                    if (sent < measureFrom.get() || received > stopAt.get()) {
+                        continue;
+                    }
+
+                    if (!ok) {
+                        errors.incrementAndGet();
+                        continue;
+                    }
+
+                    if (count == latencies.length) {
+                        latencies = Arrays.copyOf(latencies, count * 2);
+                    }
+
+                    latencies[count++] = received - sent;
+                }
+
+                return Arrays.copyOf(latencies, count);
+            }));
+        }
+
+        var now = System.nanoTime();
+
+        measureFrom.set(now + warmup.toNanos());
+        stopAt.set(now + warmup.toNanos() + duration.toNanos());
+        start.countDown();
+
+        var latencies = collect(workers);
+
+        return LoadResult.of(name, clients, errors.get(), duration, latencies);
+    }
+
+    @Override
+    public void close() {
+        client.close();
+        executor.close();
+    }
+
+    private boolean execute(HttpRequest request) {
+        try {
+            var response = client.send(request, HttpResponse.BodyHandlers.discarding());
+
+            return response.statusCode() / 100 == 2;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static long[] collect(List<Future<long[]>> workers) throws InterruptedException {
+        var parts = new ArrayList<long[]>(workers.size());
+
+        for (var worker : workers) {
+            try {
+                parts.add(worker.get());
+            } catch (ExecutionException e) {
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+
+        var all = new long[parts.stream().mapToInt(part -> part.length).sum()];
+        var offset = 0;
+
+        for (var part : parts) {
+            System.arraycopy(part, 0, all, offset, part.length);
+            offset += part.length;
+        }
+
+        return all;
+    }
+}
@@ -0,0 +1,36 @@
+package hexlet.code.loadtest;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+public record LoadResult(String name, int clients, long requests, long errors, Duration elapsed,
+                         long[] latencies) {
+
+    public static LoadResult of(String name, int clients, long errors, Duration elapsed, long[] latencies) {
+        var sorted = latencies.clone();
+
+        Arrays.sort(sorted);
+
+        return new LoadResult(name, clients, sorted.length + errors, errors, elapsed, sorted);
+    }
+
+    public double throughput() {
+        return (requests - errors) / (elapsed.toNanos() / 1e9);
+    }
+
+    public double percentile(double percentile) {
+        if (latencies.length == 0) {
+            return 0;
+        }
+
+        var index = (int) Math.ceil(percentile / 100 * latencies.length) - 1;
+
+        return latencies[Math.max(index, 0)] / 1e6;
+    }
+
+    public String format() {
+        return "%-32s clients=%5d requests=%8d errors=%6d rps=%9.1f p50=%8.1fms p90=%8.1fms p99=%8.1fms max=%8.1fms"
+                .formatted(name, clients, requests, errors, throughput(), percentile(50), percentile(90),
+                        percentile(99), percentile(100));
+    }
+}
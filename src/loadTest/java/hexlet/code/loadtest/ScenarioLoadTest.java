@@ -0,0 +1,109 @@
+package hexlet.code.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.AppApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ScenarioLoadTest {
+    private static final int TOKENS = 20;
+
+    public static void main(String[] args) throws Exception {
+        var scenarioNames = split(System.getProperty("loadTest.scenarios", "login,task-listing,task-crud,bulk-labels"));
+        var clients = Integer.parseInt(System.getProperty("loadTest.clients", "200"));
+        var warmup = Duration.parse(System.getProperty("loadTest.warmup", "PT10S"));
+        var duration = Duration.parse(System.getProperty("loadTest.duration", "PT30S"));
+        var report = Path.of(System.getProperty("loadTest.report", "build/reports/load-test/scenarios.json"));
+        var seed = Long.getLong("loadTest.seed", 42L);
+        var reports = new ArrayList<Map<String, Object>>();
+
+        try (var context = start(Boolean.getBoolean("loadTest.virtualThreads"));
+             var generator = new LoadGenerator(warmup, duration)) {
+            var allocations = context.getBean(AllocationFilter.class);
+            var dataset = new DataGenerator(context, seed).generate(
+                    Integer.getInteger("loadTest.users", 1_000),
+                    Integer.getInteger("loadTest.statuses", 10),
+                    Integer.getInteger("loadTest.labels", 50),
+                    Integer.getInteger("loadTest.tasks", 100_000),
+                    Integer.getInteger("loadTest.disposableTasks", 20_000));
+            var baseUri = URI.create("http://localhost:"
+                    + ((WebServerApplicationContext) context).getWebServer().getPort());
+            var tokens = new ArrayList<String>(TOKENS);
+            var setup = new Scenarios(baseUri, dataset, List.of(), seed);
+
+            for (var i = 0; i < TOKENS && i < dataset.userEmails().size(); i++) {
+                tokens.add(generator.send(setup.login(dataset.userEmails().get(i))));
+            }
+
+            var scenarios = new Scenarios(baseUri, dataset, tokens, seed).all();
+
+            for (var name : scenarioNames) {
+                var scenario = scenarios.get(name);
+
+                if (scenario == null) {
+                    throw new IllegalArgumentException("Неизвестный сценарий " + name);
+                }
+
+                var before = allocations.snapshot();
+                var result = generator.run(name, clients, scenario);
+                var bytesPerRequest = allocations.snapshot().bytesPerRequestSince(before);
+                var allocationRate = bytesPerRequest * result.throughput() / (1024 * 1024);
+
+                System.out.printf("%s alloc=%8.1fKB/req alloc-rate=%8.1fMB/s%n", result.format(),
+                        bytesPerRequest / 1024, allocationRate);
+                reports.add(report(result, bytesPerRequest, allocationRate));
+            }
+
+            Files.createDirectories(report.toAbsolutePath().getParent());
+            context.getBean(ObjectMapper.class).writerWithDefaultPrettyPrinter().writeValue(report.toFile(), reports);
+        }
+    }
+
+    private static ConfigurableApplicationContext start(boolean virtualThreads) {
+        return new SpringApplicationBuilder(AppApplication.class)
+                .initializers(context -> context.getBeanFactory()
+                        .registerSingleton("allocationFilter", new AllocationFilter()))
+                .run(
+                        "--server.port=0",
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--spring.datasource.url=jdbc:h2:mem:load-scenarios",
+                        "--spring.jpa.show-sql=false",
+                        "--app.security.password.executor.queue-capacity=10000",
+                        "--logging.level.hexlet.code=INFO",
+                        "--logging.level.org.springframework.security=INFO");
+    }
+
+    private static Map<String, Object> report(LoadResult result, double bytesPerRequest, double allocationRate) {
+        var report = new LinkedHashMap<String, Object>();
+
+        report.put("scenario", result.name());
+        report.put("clients", result.clients());
+        report.put("requests", result.requests());
+        report.put("errors", result.errors());
+        report.put("rps", result.throughput());
+        report.put("p50Ms", result.percentile(50));
+        report.put("p90Ms", result.percentile(90));
+        report.put("p99Ms", result.percentile(99));
+        report.put("maxMs", result.percentile(100));
+        report.put("allocationScope", "process");
+        report.put("allocatedBytesPerRequest", bytesPerRequest);
+        report.put("allocationRateMbPerSecond", allocationRate);
+
+        return report;
+    }
+
+    private static List<String> split(String value) {
+        return Arrays.stream(value.split(",")).map(String::trim).filter(part -> !part.isEmpty()).toList();
+    }
+}
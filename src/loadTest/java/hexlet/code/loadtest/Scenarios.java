@@ -0,0 +1,175 @@
+package hexlet.code.loadtest;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+public class Scenarios {
+    private static final int PAGE_SIZE = 20;
+    private static final int BULK_SIZE = 50;
+    private static final List<String> SORT_FIELDS = List.of("id", "title", "index", "createdAt");
+    private static final LocalDateTime CREATED_FROM = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private final URI baseUri;
+    private final LoadDataset dataset;
+    private final List<String> tokens;
+    private final long seed;
+
+    public Scenarios(URI baseUri, LoadDataset dataset, List<String> tokens, long seed) {
+        this.baseUri = baseUri;
+        this.dataset = dataset;
+        this.tokens = tokens;
+        this.seed = seed;
+    }
+
+    public Map<String, IntFunction<Supplier<HttpRequest>>> all() {
+        var scenarios = new LinkedHashMap<String, IntFunction<Supplier<HttpRequest>>>();
+
+        scenarios.put("login", perClient("login", this::login));
+        scenarios.put("task-listing", perClient("task-listing", this::taskListing));
+        scenarios.put("task-crud", perClient("task-crud", this::taskCrud));
+        scenarios.put("bulk-labels", perClient("bulk-labels", this::bulkLabels));
+
+        return scenarios;
+    }
+
+    private IntFunction<Supplier<HttpRequest>> perClient(String name, Function<Random, HttpRequest> scenario) {
+        return client -> {
+            var random = new Random(Objects.hash(seed, name, client));
+
+            return () -> scenario.apply(random);
+        };
+    }
+
+    public HttpRequest login(String email) {
+        return request("/api/login")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"username\": \"%s\", \"password\": \"%s\"}"
+                        .formatted(email, DataGenerator.PASSWORD)))
+                .build();
+    }
+
+    private HttpRequest login(Random random) {
+        return login(pick(random, dataset.userEmails()));
+    }
+
+    private HttpRequest taskListing(Random random) {
+        var params = new ArrayList<String>();
+        var start = random.nextInt(5) * PAGE_SIZE;
+
+        params.add("_start=" + start);
+        params.add("_end=" + (start + PAGE_SIZE));
+        params.add("_sort=" + pick(random, SORT_FIELDS));
+        params.add("_order=" + (random.nextBoolean() ? "ASC" : "DESC"));
+
+        for (var i = random.nextInt(1, 4); i > 0; i--) {
+            params.add("status=" + encode(pick(random, dataset.statusSlugs())));
+        }
+
+        if (random.nextBoolean() && !dataset.userIds().isEmpty()) {
+            params.add("assigneeId=" + pick(random, dataset.userIds()));
+        }
+
+        if (random.nextBoolean() && !dataset.labelIds().isEmpty()) {
+            params.add("labelId=" + pick(random, dataset.labelIds()));
+            params.add("labelId=" + pick(random, dataset.labelIds()));
+            params.add("labelMatch=" + (random.nextBoolean() ? "any" : "all"));
+        }
+
+        if (random.nextBoolean()) {
+            var from = random.nextInt(9_000);
+
+            params.add("indexFrom=" + from);
+            params.add("indexTo=" + (from + random.nextInt(100, 1_000)));
+        }
+
+        if (random.nextInt(4) == 0) {
+            params.add("createdAtFrom=" + encode(CREATED_FROM.toString()));
+        }
+
+        return authorized(random, "/api/tasks?" + String.join("&", params)).GET().build();
+    }
+
+    private HttpRequest taskCrud(Random random) {
+        var operation = random.nextInt(100);
+
+        if (operation < 50) {
+            return authorized(random, "/api/tasks/" + pick(random, dataset.taskIds())).GET().build();
+        }
+
+        if (operation < 75) {
+            return authorized(random, "/api/tasks/" + pick(random, dataset.taskIds()))
+                    .header("Content-Type", "application/json")
+                    .PUT(json("{\"title\": \"Updated %s\", \"index\": %s}"
+                            .formatted(random.nextInt(1_000_000), random.nextInt(10_000))))
+                    .build();
+        }
+
+        var disposable = operation < 90 ? dataset.disposableTaskIds().poll() : null;
+
+        if (disposable != null) {
+            return authorized(random, "/api/tasks/" + disposable).DELETE().build();
+        }
+
+        return authorized(random, "/api/tasks")
+                .header("Content-Type", "application/json")
+                .POST(json("{\"title\": \"Created %s\", \"status\": \"%s\", \"taskLabelIds\": %s}"
+                        .formatted(random.nextInt(1_000_000), pick(random, dataset.statusSlugs()),
+                                labelIds(random, 2))))
+                .build();
+    }
+
+    private HttpRequest bulkLabels(Random random) {
+        var items = new ArrayList<String>(BULK_SIZE);
+
+        for (var i = 0; i < BULK_SIZE; i++) {
+            items.add("{\"id\": %s, \"taskLabelIds\": %s}"
+                    .formatted(pick(random, dataset.taskIds()), labelIds(random, 3)));
+        }
+
+        return authorized(random, "/api/tasks/batch")
+                .header("Content-Type", "application/json")
+                .PUT(json("[" + String.join(",", items) + "]"))
+                .build();
+    }
+
+    private String labelIds(Random random, int max) {
+        return random.ints(random.nextInt(max + 1), 0, Math.max(dataset.labelIds().size(), 1))
+                .filter(i -> i < dataset.labelIds().size())
+                .mapToObj(i -> dataset.labelIds().get(i).toString())
+                .distinct()
+                .collect(Collectors.joining(",", "[", "]"));
+    }
+
+    private HttpRequest.Builder authorized(Random random, String path) {
+        return request(path).header("Authorization", "Bearer " + pick(random, tokens));
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path)).timeout(LoadGenerator.REQUEST_TIMEOUT);
+    }
+
+    private static HttpRequest.BodyPublisher json(String body) {
+        return HttpRequest.BodyPublishers.ofString(body);
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private static <T> T pick(Random random, List<T> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+}
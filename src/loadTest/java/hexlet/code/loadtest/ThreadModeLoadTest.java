@@ -0,0 +1,156 @@
+package hexlet.code.loadtest;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.AppApplication;
+import hexlet.code.dtos.requests.TaskRequestDto;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+public class ThreadModeLoadTest {
+    private static final String LOGIN = "{\"username\": \"hexlet@example.com\", \"password\": \"qwerty\"}";
+    private static final int SEED_CHUNK_SIZE = 1000;
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(500);
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+
+    public static void main(String[] args) throws Exception {
+        var modes = split(System.getProperty("loadTest.modes", "platform,virtual"));
+        var clients = split(System.getProperty("loadTest.clients", "1000,5000")).stream()
+                .map(Integer::valueOf)
+                .toList();
+        var warmup = Duration.parse(System.getProperty("loadTest.warmup", "PT5S"));
+        var duration = Duration.parse(System.getProperty("loadTest.duration", "PT30S"));
+        var startupTimeout = Duration.parse(System.getProperty("loadTest.startupTimeout", "PT2M"));
+        var tasks = Integer.parseInt(System.getProperty("loadTest.tasks", "1000"));
+        var results = new ArrayList<LoadResult>();
+
+        for (var mode : modes) {
+            var port = freePort();
+            var server = start(mode, port);
+
+            try (var generator = new LoadGenerator(warmup, duration)) {
+                var baseUri = URI.create("http://localhost:" + port);
+                var token = awaitStartup(server, generator, baseUri, startupTimeout);
+
+                seed(generator, baseUri, token, tasks);
+
+                var listing = HttpRequest.newBuilder(baseUri.resolve("/api/tasks?_start=0&_end=20"))
+                        .header("Authorization", "Bearer " + token)
+                        .timeout(LoadGenerator.REQUEST_TIMEOUT)
+                        .GET()
+                        .build();
+
+                for (var count : clients) {
+                    results.add(generator.run(mode + " GET /api/tasks", count, () -> listing));
+                    results.add(generator.run(mode + " POST /api/login", count, () -> login(baseUri)));
+                }
+            } finally {
+                stop(server);
+            }
+        }
+
+        results.forEach(result -> System.out.println(result.format()));
+    }
+
+    private static Process start(String mode, int port) throws IOException {
+        var logDir = Files.createDirectories(Path.of(System.getProperty("loadTest.logDir", "build/load-test")));
+        var command = new ArrayList<String>();
+
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        Arrays.stream(System.getProperty("loadTest.serverJvmArgs", "-Xmx1g").split("\\s+"))
+                .filter(arg -> !arg.isEmpty())
+                .forEach(command::add);
+        command.addAll(List.of(
+                "-cp", System.getProperty("loadTest.serverClasspath", System.getProperty("java.class.path")),
+                AppApplication.class.getName(),
+                "--server.port=" + port,
+                "--spring.threads.virtual.enabled=" + "virtual".equals(mode),
+                "--spring.datasource.url=jdbc:h2:mem:load-" + mode,
+                "--spring.jpa.show-sql=false",
+                "--app.security.password.executor.queue-capacity=10000",
+                "--logging.level.hexlet.code=INFO",
+                "--logging.level.org.springframework.security=INFO"));
+
+        return new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logDir.resolve("server-" + mode + ".log").toFile())
+                .start();
+    }
+
+    private static String awaitStartup(Process server, LoadGenerator generator, URI baseUri, Duration timeout)
+            throws InterruptedException {
+        var deadline = System.nanoTime() + timeout.toNanos();
+
+        while (true) {
+            if (!server.isAlive()) {
+                throw new IllegalStateException("Сервер завершился при запуске с кодом " + server.exitValue());
+            }
+
+            try {
+                return generator.send(login(baseUri));
+            } catch (IOException e) {
+                if (System.nanoTime() > deadline) {
+                    throw new IllegalStateException("Сервер не запустился за " + timeout, e);
+                }
+            }
+
+            Thread.sleep(POLL_INTERVAL);
+        }
+    }
+
+    private static void stop(Process server) throws InterruptedException {
+        server.destroy();
+
+        if (!server.waitFor(30, TimeUnit.SECONDS)) {
+            server.destroyForcibly().waitFor();
+        }
+    }
+
+    private static void seed(LoadGenerator generator, URI baseUri, String token, int tasks)
+            throws IOException, InterruptedException {
+        var requests = IntStream.range(0, tasks)
+                .mapToObj(i -> TaskRequestDto.builder().title("Load " + i).slug("draft").build())
+                .toList();
+
+        for (var from = 0; from < requests.size(); from += SEED_CHUNK_SIZE) {
+            var chunk = requests.subList(from, Math.min(from + SEED_CHUNK_SIZE, requests.size()));
+
+            generator.send(HttpRequest.newBuilder(baseUri.resolve("/api/tasks/batch"))
+                    .header("Authorization", "Bearer " + token)
+                    .header("Content-Type", "application/json")
+                    .timeout(LoadGenerator.REQUEST_TIMEOUT)
+                    .POST(HttpRequest.BodyPublishers.ofString(MAPPER.writeValueAsString(chunk)))
+                    .build());
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (var socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static HttpRequest login(URI baseUri) {
+        return HttpRequest.newBuilder(baseUri.resolve("/api/login"))
+                .header("Content-Type", "application/json")
+                .timeout(LoadGenerator.REQUEST_TIMEOUT)
+                .POST(HttpRequest.BodyPublishers.ofString(LOGIN))
+                .build();
+    }
+
+    private static List<String> split(String value) {
+        return Arrays.stream(value.split(",")).map(String::trim).filter(part -> !part.isEmpty()).toList();
+    }
+}
@@ -0,0 +1,56 @@
+package hexlet.code.components;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.hibernate.Hibernate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashSet;
+import java.util.Set;
+
+@Component
+public class EntityChangeListener {
+    private final EntityChangeTracker changeTracker;
+
+    public EntityChangeListener(EntityChangeTracker changeTracker) {
+        this.changeTracker = changeTracker;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        Class<?> type = Hibernate.getClass(entity);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            changeTracker.changed(type);
+
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        var changed = (Set<Class<?>>) TransactionSynchronizationManager.getResource(this);
+
+        if (changed == null) {
+            var pending = new HashSet<Class<?>>();
+
+            changed = pending;
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(EntityChangeListener.this);
+
+                    if (status == STATUS_COMMITTED) {
+                        pending.forEach(changeTracker::changed);
+                    }
+                }
+            });
+        }
+
+        changed.add(type);
+    }
+}
@@ -0,0 +1,73 @@
+package hexlet.code.components;
+
+import hexlet.code.exceptions.PreconditionFailedException;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class EntityChangeTracker {
+    private static final String ANY = "*";
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+    private final Map<Class<?>, AtomicLong> counters = new ConcurrentHashMap<>();
+
+    public void changed(Class<?> type) {
+        counter(type).incrementAndGet();
+    }
+
+    public long changes(Class<?> type) {
+        return counter(type).get();
+    }
+
+    public String strongETag(Long version, long... related) {
+        if (version == null) {
+            return null;
+        }
+
+        var tag = new StringBuilder().append(version);
+
+        for (var value : related) {
+            tag.append('.').append(value);
+        }
+
+        return "\"" + tag + "\"";
+    }
+
+    public Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ANY.equals(ifMatch.trim())) {
+            return null;
+        }
+
+        var tag = ifMatch.trim();
+
+        if (tag.length() < 2 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            throw new PreconditionFailedException("Некорректный заголовок If-Match %s".formatted(ifMatch));
+        }
+
+        var value = tag.substring(1, tag.length() - 1);
+        var separator = value.indexOf('.');
+
+        try {
+            return Long.valueOf(separator < 0 ? value : value.substring(0, separator));
+        } catch (NumberFormatException e) {
+            throw new PreconditionFailedException("Некорректный заголовок If-Match %s".formatted(ifMatch));
+        }
+    }
+
+    public String weakETag(Class<?>... types) {
+        var tag = new StringBuilder(epoch);
+
+        for (var type : types) {
+            tag.append('-').append(changes(type));
+        }
+
+        return "W/\"" + tag + "\"";
+    }
+
+    private AtomicLong counter(Class<?> type) {
+        return counters.computeIfAbsent(type, key -> new AtomicLong());
+    }
+}
@@ -0,0 +1,72 @@
+package hexlet.code.components;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+@Component
+public class JwtPrincipalCache {
+    private final Cache<String, CachedPrincipal> cache;
+
+    public JwtPrincipalCache(@Value("${app.security.principal-cache.ttl:5m}") Duration ttl,
+                             @Value("${app.security.principal-cache.max-size:10000}") long maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public CachedPrincipal get(String token) {
+        var key = digest(token);
+        var cached = cache.getIfPresent(key);
+
+        if (cached == null) {
+            return null;
+        }
+
+        if (cached.expiresAt().isBefore(Instant.now())) {
+            cache.invalidate(key);
+
+            return null;
+        }
+
+        return cached;
+    }
+
+    public void put(String token, UserDetails userDetails, Instant expiresAt) {
+        put(token, userDetails, null, null, expiresAt);
+    }
+
+    public void put(String token, UserDetails userDetails, Long userId, Integer tokenVersion, Instant expiresAt) {
+        cache.put(digest(token), new CachedPrincipal(userDetails, userId, tokenVersion, expiresAt));
+    }
+
+    public void invalidate(String token) {
+        cache.invalidate(digest(token));
+    }
+
+    public void evict(String username) {
+        cache.asMap().values().removeIf(cached -> cached.userDetails().getUsername().equals(username));
+    }
+
+    private String digest(String token) {
+        try {
+            var hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public record CachedPrincipal(UserDetails userDetails, Long userId, Integer tokenVersion, Instant expiresAt) {}
+}
@@ -1,56 +1,116 @@
 package hexlet.code.components;
 
+import hexlet.code.configurations.MetricsConfig;
 import hexlet.code.services.impl.UserServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 
+@Slf4j
 public class JwtRequestFilter extends OncePerRequestFilter {
     private final JwtUtils jwtUtils;
     private final UserServiceImpl userService;
+    private final JwtPrincipalCache principalCache;
+    private final TokenVersionCache tokenVersions;
+    private final boolean statelessAuthorization;
+    private final MeterRegistry meterRegistry;
 
-    public JwtRequestFilter(JwtUtils jwtUtils, @Lazy UserServiceImpl userService) {
+    public JwtRequestFilter(JwtUtils jwtUtils, @Lazy UserServiceImpl userService, JwtPrincipalCache principalCache,
+                            TokenVersionCache tokenVersions, boolean statelessAuthorization,
+                            MeterRegistry meterRegistry) {
         this.jwtUtils = jwtUtils;
         this.userService = userService;
+        this.principalCache = principalCache;
+        this.tokenVersions = tokenVersions;
+        this.statelessAuthorization = statelessAuthorization;
+        this.meterRegistry = meterRegistry;
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
-
-        System.out.println("№№№№№№№№№№№№№№№№№№№№№№№№№№№№№№№№А ТЕПЕРЬ ВЫВОДИМ");
-
         var header = request.getHeader("Authorization");
 
-        System.out.println("DEBUG: Request URI: " + request.getRequestURI());
-        System.out.println("DEBUG: Auth Header: " + header);
-
         if (header != null && header.startsWith("Bearer ")) {
             var token = header.substring(7);
+            var sample = Timer.start(meterRegistry);
+            var resolved = resolveUserDetails(token);
+            var userDetails = resolved.userDetails();
+
+            sample.stop(meterRegistry.timer(MetricsConfig.JWT_FILTER_TIMER, "outcome", resolved.outcome()));
 
-            if (jwtUtils.validateToken(token)) {
-                var email = jwtUtils.getEmailFromToken(token);
-                var userDetails = userService.loadUserByUsername(email);
+            if (userDetails != null) {
                 var auth = new UsernamePasswordAuthenticationToken(
                         userDetails, null, userDetails.getAuthorities());
 
-                System.out.println("DEBUG: User: " + email);
-                System.out.println("DEBUG: Authorities: " + userDetails.getAuthorities());
+                log.debug("Authenticated {} with authorities {}", userDetails.getUsername(), userDetails.getAuthorities());
 
                 SecurityContextHolder.getContext().setAuthentication(auth);
-            } else {
-                System.out.println("DEBUG: Token validation FAILED");
             }
         }
 
         filterChain.doFilter(request, response);
     }
-}
 
+    private Resolved resolveUserDetails(String token) {
+        var cached = principalCache.get(token);
+
+        if (cached != null) {
+            if (cached.userId() != null && !tokenVersions.isCurrent(cached.userId(), cached.tokenVersion())) {
+                log.debug("Cached token rejected: stale version for user {}", cached.userId());
+                principalCache.invalidate(token);
+
+                return new Resolved(null, "stale");
+            }
+
+            return new Resolved(cached.userDetails(), "cached");
+        }
+
+        var validation = jwtUtils.parseAndValidate(token);
+
+        if (!validation.isValid()) {
+            log.debug("Token rejected: {}", validation.failure());
+
+            return new Resolved(null, "rejected");
+        }
+
+        var userId = validation.userId();
+
+        if (userId != null && !tokenVersions.isCurrent(userId, validation.tokenVersion())) {
+            log.debug("Token rejected: stale version for user {}", userId);
+
+            return new Resolved(null, "stale");
+        }
+
+        var userDetails = statelessAuthorization && userId != null
+                ? fromClaims(validation)
+                : userService.loadUserByUsername(validation.subject());
+
+        principalCache.put(token, userDetails, userId, validation.tokenVersion(), validation.expiresAt());
+
+        return new Resolved(userDetails, "authenticated");
+    }
+
+    private UserDetails fromClaims(JwtValidationResult validation) {
+        var role = validation.role();
+
+        return User.withUsername(validation.subject())
+                .password("")
+                .authorities(role == null ? new String[0] : new String[] {role})
+                .build();
+    }
+
+    private record Resolved(UserDetails userDetails, String outcome) {}
+}
@@ -1,46 +1,69 @@
 package hexlet.code.components;
 
+import hexlet.code.models.User;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
 import org.springframework.stereotype.Component;
 
+import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
-import java.security.Key;
 import java.util.Date;
 
 @Component
 public class JwtUtils {
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String ROLE_CLAIM = "role";
+    public static final String TOKEN_VERSION_CLAIM = "ver";
+
     private final String secret = "your-very-secure-secret-key-at-least-32-characters-long";
-    private final Key key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    private final SecretKey key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    private final JwtParser parser = Jwts.parser().verifyWith(key).build();
 
-    public String generateToken(String email) {
+    public String generateToken(User user) {
         return Jwts.builder()
-                .setSubject(email)
-                .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + 86400000))
+                .subject(user.getEmail())
+                .claim(USER_ID_CLAIM, user.getId())
+                .claim(ROLE_CLAIM, user.getRole())
+                .claim(TOKEN_VERSION_CLAIM, user.getTokenVersion())
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + 86400000))
                 .signWith(key)
                 .compact();
     }
 
+    public JwtValidationResult parseAndValidate(String token) {
+        if (token == null || token.isBlank()) {
+            return JwtValidationResult.invalid(JwtValidationResult.Failure.EMPTY);
+        }
+
+        try {
+            return JwtValidationResult.valid(parser.parseSignedClaims(token).getPayload());
+        } catch (ExpiredJwtException e) {
+            return JwtValidationResult.invalid(JwtValidationResult.Failure.EXPIRED);
+        } catch (SignatureException e) {
+            return JwtValidationResult.invalid(JwtValidationResult.Failure.INVALID_SIGNATURE);
+        } catch (MalformedJwtException e) {
+            return JwtValidationResult.invalid(JwtValidationResult.Failure.MALFORMED);
+        } catch (UnsupportedJwtException e) {
+            return JwtValidationResult.invalid(JwtValidationResult.Failure.UNSUPPORTED);
+        } catch (JwtException | IllegalArgumentException e) {
+            return JwtValidationResult.invalid(JwtValidationResult.Failure.INVALID);
+        }
+    }
+
     public String getEmailFromToken(String token) {
-        return Jwts.parser()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
+        return parser.parseSignedClaims(token)
+                .getPayload()
                 .getSubject();
     }
 
     public boolean validateToken(String token) {
-        try {
-            Jwts.parser()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
+        return parseAndValidate(token).isValid();
     }
 }
-
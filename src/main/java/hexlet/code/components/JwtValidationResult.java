@@ -0,0 +1,52 @@
+package hexlet.code.components;
+
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+
+public record JwtValidationResult(Claims claims, Failure failure) {
+    public enum Failure {
+        EMPTY,
+        MALFORMED,
+        UNSUPPORTED,
+        INVALID_SIGNATURE,
+        EXPIRED,
+        INVALID
+    }
+
+    public static JwtValidationResult valid(Claims claims) {
+        return new JwtValidationResult(claims, null);
+    }
+
+    public static JwtValidationResult invalid(Failure failure) {
+        return new JwtValidationResult(null, failure);
+    }
+
+    public boolean isValid() {
+        return failure == null;
+    }
+
+    public String subject() {
+        return claims.getSubject();
+    }
+
+    public Instant expiresAt() {
+        return claims.getExpiration().toInstant();
+    }
+
+    public Long userId() {
+        var userId = claims.get(JwtUtils.USER_ID_CLAIM, Number.class);
+
+        return userId == null ? null : userId.longValue();
+    }
+
+    public String role() {
+        return claims.get(JwtUtils.ROLE_CLAIM, String.class);
+    }
+
+    public Integer tokenVersion() {
+        var tokenVersion = claims.get(JwtUtils.TOKEN_VERSION_CLAIM, Number.class);
+
+        return tokenVersion == null ? null : tokenVersion.intValue();
+    }
+}
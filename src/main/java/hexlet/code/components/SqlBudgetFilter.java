@@ -0,0 +1,86 @@
+package hexlet.code.components;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@Slf4j
+public class SqlBudgetFilter extends OncePerRequestFilter {
+    public static final String SQL_COUNT_HEADER = "X-SQL-Count";
+    static final String STATS_ATTRIBUTE = SqlBudgetFilter.class.getName() + ".STATS";
+
+    private final long maxStatements;
+    private final long maxElapsedMillis;
+    private final boolean countHeader;
+
+    public SqlBudgetFilter(@Value("${app.sql.request-budget.statements:20}") long maxStatements,
+                           @Value("${app.sql.request-budget.time:500ms}") Duration maxElapsed,
+                           @Value("${app.sql.count-header:false}") boolean countHeader) {
+        this.maxStatements = maxStatements;
+        this.maxElapsedMillis = maxElapsed.toMillis();
+        this.countHeader = countHeader;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try (var stats = SqlRequestStats.start(current -> writeHeader(response, current))) {
+            writeHeader(response, stats);
+            request.setAttribute(STATS_ATTRIBUTE, stats);
+            filterChain.doFilter(request, response);
+
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        checkBudget(request, stats);
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+            } else {
+                checkBudget(request, stats);
+            }
+        }
+    }
+
+    private void checkBudget(HttpServletRequest request, SqlRequestStats stats) {
+        if (stats.getStatements() > maxStatements || stats.getElapsedMillis() > maxElapsedMillis) {
+            log.warn("SQL budget exceeded by {} {}: {} statements in {} ms (budget {} statements, {} ms), "
+                            + "{} rows read, {} rows affected",
+                    request.getMethod(), request.getRequestURI(), stats.getStatements(),
+                    stats.getElapsedMillis(), maxStatements, maxElapsedMillis, stats.getRowsRead(),
+                    stats.getRowsAffected());
+        }
+    }
+
+    private void writeHeader(HttpServletResponse response, SqlRequestStats stats) {
+        if (countHeader && !response.isCommitted()) {
+            response.setHeader(SQL_COUNT_HEADER, Long.toString(stats.getStatements()));
+        }
+    }
+}
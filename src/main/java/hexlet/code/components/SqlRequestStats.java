@@ -0,0 +1,119 @@
+package hexlet.code.components;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+public final class SqlRequestStats implements AutoCloseable {
+    private static final ThreadLocal<SqlRequestStats> CURRENT = new ThreadLocal<>();
+
+    private final SqlRequestStats previous;
+    private final Consumer<SqlRequestStats> onStatement;
+    private final LongAdder statements = new LongAdder();
+    private final LongAdder elapsedMillis = new LongAdder();
+    private final LongAdder rowsAffected = new LongAdder();
+    private final LongAdder rowsRead = new LongAdder();
+
+    private SqlRequestStats(SqlRequestStats previous, Consumer<SqlRequestStats> onStatement) {
+        this.previous = previous;
+        this.onStatement = onStatement;
+    }
+
+    public static SqlRequestStats start() {
+        return start(stats -> { });
+    }
+
+    public static SqlRequestStats start(Consumer<SqlRequestStats> onStatement) {
+        var stats = new SqlRequestStats(CURRENT.get(), onStatement);
+
+        CURRENT.set(stats);
+
+        return stats;
+    }
+
+    public static SqlRequestStats current() {
+        return CURRENT.get();
+    }
+
+    public static SqlRequestStats measure(Runnable action) {
+        try (var stats = start()) {
+            action.run();
+
+            return stats;
+        }
+    }
+
+    public static <T> Supplier<T> propagate(Supplier<T> task) {
+        var stats = CURRENT.get();
+
+        if (stats == null) {
+            return task;
+        }
+
+        return () -> {
+            var previous = CURRENT.get();
+
+            CURRENT.set(stats);
+
+            try {
+                return task.get();
+            } finally {
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        };
+    }
+
+    static void bind(SqlRequestStats stats) {
+        CURRENT.set(stats);
+    }
+
+    static void unbind() {
+        CURRENT.remove();
+    }
+
+    void recordStatement(long elapsedMillis, long rowsAffected) {
+        for (var stats = this; stats != null; stats = stats.previous) {
+            stats.statements.increment();
+            stats.elapsedMillis.add(elapsedMillis);
+            stats.rowsAffected.add(rowsAffected);
+            stats.onStatement.accept(stats);
+        }
+    }
+
+    void recordRowRead() {
+        for (var stats = this; stats != null; stats = stats.previous) {
+            stats.rowsRead.increment();
+        }
+    }
+
+    public long getStatements() {
+        return statements.sum();
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis.sum();
+    }
+
+    public long getRowsAffected() {
+        return rowsAffected.sum();
+    }
+
+    public long getRowsRead() {
+        return rowsRead.sum();
+    }
+
+    @Override
+    public void close() {
+        if (CURRENT.get() == this) {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package hexlet.code.components;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+@Component
+@Slf4j
+public class SqlStatementListener implements QueryExecutionListener, MethodExecutionListener {
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMERIC_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?(?![\\w.])");
+
+    private final long slowQueryThresholdMillis;
+
+    public SqlStatementListener(@Value("${app.sql.slow-query-threshold:200ms}") Duration slowQueryThreshold) {
+        this.slowQueryThresholdMillis = slowQueryThreshold.toMillis();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        var rows = rowsAffected(execInfo.getResult());
+        var stats = SqlRequestStats.current();
+
+        if (stats != null) {
+            stats.recordStatement(execInfo.getElapsedTime(), Math.max(rows, 0));
+        }
+
+        if (execInfo.getElapsedTime() >= slowQueryThresholdMillis) {
+            log.warn("Slow SQL ({} ms, rows {}, batch {}, success {}): {}", execInfo.getElapsedTime(),
+                    rows < 0 ? "n/a" : rows, execInfo.isBatch() ? execInfo.getBatchSize() : 0,
+                    execInfo.isSuccess(), redact(queryInfoList));
+        }
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+    }
+
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        if (executionContext.getTarget() instanceof ResultSet
+                && "next".equals(executionContext.getMethod().getName())
+                && Boolean.TRUE.equals(executionContext.getResult())) {
+            var stats = SqlRequestStats.current();
+
+            if (stats != null) {
+                stats.recordRowRead();
+            }
+        }
+    }
+
+    public static String redact(String sql) {
+        var withoutStrings = STRING_LITERAL.matcher(sql).replaceAll("'?'");
+
+        return NUMERIC_LITERAL.matcher(withoutStrings).replaceAll("?");
+    }
+
+    private static String redact(List<QueryInfo> queryInfoList) {
+        return queryInfoList.stream()
+                .map(query -> "%s [%d parameter set(s) redacted]".formatted(redact(query.getQuery()),
+                        query.getParametersList().size()))
+                .collect(Collectors.joining("; "));
+    }
+
+    private static long rowsAffected(Object result) {
+        return switch (result) {
+            case Integer count -> count;
+            case Long count -> count;
+            case int[] counts -> sum(counts);
+            case long[] counts -> sum(counts);
+            case null, default -> -1;
+        };
+    }
+
+    private static long sum(int[] counts) {
+        var total = 0L;
+
+        for (var count : counts) {
+            total += Math.max(count, 0);
+        }
+
+        return total;
+    }
+
+    private static long sum(long[] counts) {
+        var total = 0L;
+
+        for (var count : counts) {
+            total += Math.max(count, 0);
+        }
+
+        return total;
+    }
+}
@@ -0,0 +1,26 @@
+package hexlet.code.components;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+
+import java.util.concurrent.Callable;
+
+@Component
+public class SqlStatsCallableInterceptor implements CallableProcessingInterceptor {
+
+    @Override
+    public <T> void preProcess(NativeWebRequest request, Callable<T> task) {
+        var stats = request.getAttribute(SqlBudgetFilter.STATS_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+
+        if (stats instanceof SqlRequestStats requestStats) {
+            SqlRequestStats.bind(requestStats);
+        }
+    }
+
+    @Override
+    public <T> void postProcess(NativeWebRequest request, Callable<T> task, Object concurrentResult) {
+        SqlRequestStats.unbind();
+    }
+}
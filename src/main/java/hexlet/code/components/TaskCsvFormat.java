@@ -0,0 +1,131 @@
+package hexlet.code.components;
+
+import hexlet.code.dtos.requests.TaskRequestDto;
+import hexlet.code.dtos.response.TaskResponseDto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public final class TaskCsvFormat {
+    public static final String HEADER = "id,index,title,content,status,assignee_id,label_ids,created_at";
+
+    private TaskCsvFormat() {
+    }
+
+    public static String format(TaskResponseDto task) {
+        var labelIds = task.getTaskLabelIds() == null ? "" : task.getTaskLabelIds().stream()
+                .sorted()
+                .map(String::valueOf)
+                .collect(Collectors.joining(" "));
+
+        return String.join(",",
+                value(task.getId()),
+                value(task.getIndex()),
+                escape(task.getTitle()),
+                escape(task.getContent()),
+                escape(task.getStatus()),
+                value(task.getAssigneeId()),
+                labelIds,
+                value(task.getCreatedAt()));
+    }
+
+    private static String value(Object value) {
+        return Objects.toString(value, "");
+    }
+
+    private static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    public static TaskRequestDto parse(List<String> header, List<String> fields) {
+        if (fields.size() > header.size()) {
+            throw new IllegalArgumentException("Ожидалось не более %d полей, получено %d"
+                    .formatted(header.size(), fields.size()));
+        }
+
+        var task = new TaskRequestDto();
+
+        for (var i = 0; i < fields.size(); i++) {
+            var value = fields.get(i);
+
+            if (value.isEmpty()) {
+                continue;
+            }
+
+            switch (header.get(i)) {
+                case "index" -> task.setIndex(number(value, Integer::valueOf));
+                case "title" -> task.setTitle(value);
+                case "content" -> task.setContent(value);
+                case "status" -> task.setSlug(value);
+                case "assignee_id" -> task.setAssigneeId(number(value, Long::valueOf));
+                case "label_ids" -> task.setTaskLabelIds(Arrays.stream(value.trim().split("\\s+"))
+                        .map(id -> number(id, Long::valueOf))
+                        .collect(Collectors.toSet()));
+                default -> {
+                }
+            }
+        }
+
+        return task;
+    }
+
+    public static List<String> split(String record) {
+        var fields = new ArrayList<String>();
+        var field = new StringBuilder();
+        var quoted = false;
+
+        for (var i = 0; i < record.length(); i++) {
+            var c = record.charAt(i);
+
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < record.length() && record.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+
+        if (quoted) {
+            throw new IllegalArgumentException("Незакрытые кавычки");
+        }
+
+        fields.add(field.toString());
+
+        return fields;
+    }
+
+    public static boolean isComplete(CharSequence record) {
+        return record.chars().filter(c -> c == '"').count() % 2 == 0;
+    }
+
+    private static <T> T number(String value, Function<String, T> parser) {
+        try {
+            return parser.apply(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Некорректное число %s".formatted(value));
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package hexlet.code.components;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.dtos.TaskExportFormat;
+import hexlet.code.dtos.response.TaskResponseDto;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+@Component
+public class TaskExportWriter {
+    private static final byte NEW_LINE = '\n';
+
+    private final ObjectMapper objectMapper;
+
+    public TaskExportWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public void writeHeader(TaskExportFormat format, OutputStream out) throws IOException {
+        if (format == TaskExportFormat.CSV) {
+            out.write(TaskCsvFormat.HEADER.getBytes(StandardCharsets.UTF_8));
+            out.write(NEW_LINE);
+        }
+    }
+
+    public void writeRow(TaskExportFormat format, TaskResponseDto task, OutputStream out) throws IOException {
+        if (format == TaskExportFormat.CSV) {
+            out.write(TaskCsvFormat.format(task).getBytes(StandardCharsets.UTF_8));
+        } else {
+            out.write(objectMapper.writeValueAsBytes(task));
+        }
+
+        out.write(NEW_LINE);
+    }
+}
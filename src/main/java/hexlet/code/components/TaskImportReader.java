@@ -0,0 +1,104 @@
+package hexlet.code.components;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import hexlet.code.dtos.TaskExportFormat;
+import hexlet.code.dtos.requests.TaskRequestDto;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+public class TaskImportReader {
+    public record Row(long line, TaskRequestDto task, String error) {
+    }
+
+    private final TaskExportFormat format;
+    private final BufferedReader reader;
+    private final ObjectReader jsonReader;
+    private List<String> header;
+    private long line;
+
+    public TaskImportReader(TaskExportFormat format, InputStream in, ObjectReader jsonReader) throws IOException {
+        this.format = format;
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        this.jsonReader = jsonReader;
+
+        if (format == TaskExportFormat.CSV) {
+            var headerRecord = readRecord();
+
+            if (headerRecord == null) {
+                throw new IllegalArgumentException("Отсутствует заголовок CSV");
+            }
+
+            header = TaskCsvFormat.split(headerRecord.strip());
+        }
+    }
+
+    public long getLine() {
+        return line;
+    }
+
+    public void skipTo(long targetLine) throws IOException {
+        while (line < targetLine) {
+            if (readRecord() == null) {
+                return;
+            }
+        }
+    }
+
+    public Row next() throws IOException {
+        String record;
+
+        while ((record = readRecord()) != null) {
+            if (record.isBlank()) {
+                continue;
+            }
+
+            try {
+                return new Row(line, parse(record), null);
+            } catch (JsonProcessingException e) {
+                return new Row(line, null, "Некорректная строка: " + e.getOriginalMessage());
+            } catch (IllegalArgumentException e) {
+                return new Row(line, null, "Некорректная строка: " + e.getMessage());
+            }
+        }
+
+        return null;
+    }
+
+    private TaskRequestDto parse(String record) throws JsonProcessingException {
+        if (format == TaskExportFormat.CSV) {
+            return TaskCsvFormat.parse(header, TaskCsvFormat.split(record));
+        }
+
+        return jsonReader.readValue(record);
+    }
+
+    private String readRecord() throws IOException {
+        var record = reader.readLine();
+
+        if (record == null) {
+            return null;
+        }
+
+        line++;
+
+        if (format == TaskExportFormat.CSV) {
+            var builder = new StringBuilder(record);
+            String next;
+
+            while (!TaskCsvFormat.isComplete(builder) && (next = reader.readLine()) != null) {
+                line++;
+                builder.append('\n').append(next);
+            }
+
+            record = builder.toString();
+        }
+
+        return record;
+    }
+}
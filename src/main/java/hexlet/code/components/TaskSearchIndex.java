@@ -0,0 +1,376 @@
+package hexlet.code.components;
+
+import hexlet.code.dtos.TaskSearchDocument;
+import hexlet.code.dtos.TaskSearchQuery;
+import jakarta.annotation.PreDestroy;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.IntPoint;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.WildcardQuery;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+@Component
+public class TaskSearchIndex {
+    private static final String ID = "id";
+    private static final String NAME = "name";
+    private static final String DESCRIPTION = "description";
+    private static final String TITLE = "title";
+    private static final String STATUS = "status";
+    private static final String ASSIGNEE = "assignee";
+    private static final String LABEL = "label";
+    private static final String INDEX = "index";
+    private static final String CREATED_AT = "createdAt";
+    private static final float NAME_BOOST = 2.0f;
+    private static final float PREFIX_BOOST = 0.5f;
+
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    @Autowired
+    public TaskSearchIndex(@Value("${app.search.index-path:}") String indexPath) throws IOException {
+        this(indexPath.isBlank() ? new ByteBuffersDirectory() : FSDirectory.open(Path.of(indexPath)));
+    }
+
+    public TaskSearchIndex(Directory directory) throws IOException {
+        this.directory = directory;
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        this.searcherManager = new SearcherManager(writer, null);
+    }
+
+    public void rebuild(Stream<TaskSearchDocument> tasks) {
+        try {
+            writer.deleteAll();
+
+            var iterator = tasks.iterator();
+
+            while (iterator.hasNext()) {
+                var task = iterator.next();
+
+                writer.addDocument(toDocument(task, task.labelIds() == null ? Set.of() : task.labelIds()));
+            }
+
+            writer.commit();
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void apply(Collection<TaskSearchDocument> updated, Collection<Long> deleted) {
+        try {
+            for (var task : updated) {
+                var labelIds = task.labelIds() == null ? storedLabelIds(task.id()) : task.labelIds();
+
+                writer.updateDocument(new Term(ID, task.id().toString()), toDocument(task, labelIds));
+            }
+
+            for (var id : deleted) {
+                writer.deleteDocuments(new Term(ID, id.toString()));
+            }
+
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public Hits search(TaskSearchQuery query, Sort sort, int offset, int limit) {
+        return search(query, sort, null, offset, limit, true);
+    }
+
+    public Hits searchAfter(TaskSearchQuery query, Sort sort, ScoreDoc after, int limit) {
+        return search(query, sort, after, 0, limit, false);
+    }
+
+    private Hits search(TaskSearchQuery query, Sort sort, ScoreDoc after, int offset, int limit, boolean count) {
+        var luceneQuery = buildQuery(query);
+
+        if (luceneQuery == null) {
+            return new Hits(List.of(), 0, null);
+        }
+
+        try {
+            var searcher = searcherManager.acquire();
+
+            try {
+                var ids = new ArrayList<Long>(Math.max(limit, 0));
+                var last = after;
+
+                if (limit > 0) {
+                    var size = (int) Math.min((long) offset + limit, Integer.MAX_VALUE);
+                    var luceneSort = toSort(sort);
+                    var hits = (luceneSort == null
+                            ? searcher.searchAfter(after, luceneQuery, size)
+                            : searcher.searchAfter(after, luceneQuery, size, luceneSort)).scoreDocs;
+                    var storedFields = searcher.storedFields();
+
+                    for (var i = offset; i < hits.length; i++) {
+                        ids.add(Long.valueOf(storedFields.document(hits[i].doc).get(ID)));
+                    }
+
+                    if (hits.length > 0) {
+                        last = hits[hits.length - 1];
+                    }
+                }
+
+                return new Hits(ids, count ? searcher.count(luceneQuery) : -1, last);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    private Query buildQuery(TaskSearchQuery search) {
+        var terms = analyze(search.text());
+
+        if (terms.isEmpty()) {
+            return null;
+        }
+
+        var query = new BooleanQuery.Builder();
+
+        for (var term : terms) {
+            var termQuery = new BooleanQuery.Builder()
+                    .add(new BoostQuery(new TermQuery(new Term(NAME, term)), NAME_BOOST), BooleanClause.Occur.SHOULD)
+                    .add(new TermQuery(new Term(DESCRIPTION, term)), BooleanClause.Occur.SHOULD)
+                    .add(new BoostQuery(new PrefixQuery(new Term(NAME, term)), NAME_BOOST * PREFIX_BOOST),
+                            BooleanClause.Occur.SHOULD)
+                    .add(new BoostQuery(new PrefixQuery(new Term(DESCRIPTION, term)), PREFIX_BOOST),
+                            BooleanClause.Occur.SHOULD)
+                    .build();
+
+            query.add(termQuery, BooleanClause.Occur.MUST);
+        }
+
+        if (search.titleCont() != null) {
+            query.add(new WildcardQuery(new Term(TITLE, "*" + escapeWildcard(search.titleCont().toLowerCase()) + "*")),
+                    BooleanClause.Occur.FILTER);
+        }
+
+        if (search.statusIds() != null) {
+            query.add(LongPoint.newSetQuery(STATUS, search.statusIds()), BooleanClause.Occur.FILTER);
+        }
+
+        if (search.assigneeIds() != null) {
+            query.add(LongPoint.newSetQuery(ASSIGNEE, search.assigneeIds()), BooleanClause.Occur.FILTER);
+        }
+
+        if (search.labelIds() != null) {
+            if (search.matchAllLabels()) {
+                for (var labelId : search.labelIds()) {
+                    query.add(LongPoint.newExactQuery(LABEL, labelId), BooleanClause.Occur.FILTER);
+                }
+            } else {
+                query.add(LongPoint.newSetQuery(LABEL, search.labelIds()), BooleanClause.Occur.FILTER);
+            }
+        }
+
+        if (search.createdAtFrom() != null || search.createdAtTo() != null) {
+            query.add(LongPoint.newRangeQuery(CREATED_AT,
+                    search.createdAtFrom() == null ? Long.MIN_VALUE : toMicros(search.createdAtFrom()),
+                    search.createdAtTo() == null ? Long.MAX_VALUE : toMicros(search.createdAtTo())),
+                    BooleanClause.Occur.FILTER);
+        }
+
+        if (search.indexFrom() != null || search.indexTo() != null) {
+            query.add(IntPoint.newRangeQuery(INDEX,
+                    search.indexFrom() == null ? Integer.MIN_VALUE : search.indexFrom(),
+                    search.indexTo() == null ? Integer.MAX_VALUE : search.indexTo()),
+                    BooleanClause.Occur.FILTER);
+        }
+
+        return query.build();
+    }
+
+    private org.apache.lucene.search.Sort toSort(Sort sort) {
+        if (sort == null || sort.isUnsorted()) {
+            return null;
+        }
+
+        var fields = new ArrayList<SortField>();
+
+        for (var order : sort) {
+            var reverse = order.isDescending();
+            var field = switch (order.getProperty()) {
+                case "id" -> new SortField(ID, SortField.Type.LONG, reverse);
+                case "name" -> new SortField(NAME, SortField.Type.STRING, reverse);
+                case "index" -> new SortField(INDEX, SortField.Type.INT, reverse);
+                case "createdAt" -> new SortField(CREATED_AT, SortField.Type.LONG, reverse);
+                default -> throw new IllegalArgumentException("Сортировка по полю %s не поддерживается"
+                        .formatted(order.getProperty()));
+            };
+
+            if (field.getType() == SortField.Type.INT) {
+                field.setMissingValue(Integer.MIN_VALUE);
+            } else if (field.getType() == SortField.Type.LONG) {
+                field.setMissingValue(Long.MIN_VALUE);
+            } else {
+                field.setMissingValue(SortField.STRING_FIRST);
+            }
+
+            fields.add(field);
+        }
+
+        return new org.apache.lucene.search.Sort(fields.toArray(SortField[]::new));
+    }
+
+    private static String escapeWildcard(String text) {
+        var escaped = new StringBuilder(text.length());
+
+        for (var c : text.toCharArray()) {
+            if (c == WildcardQuery.WILDCARD_STRING || c == WildcardQuery.WILDCARD_CHAR
+                    || c == WildcardQuery.WILDCARD_ESCAPE) {
+                escaped.append(WildcardQuery.WILDCARD_ESCAPE);
+            }
+
+            escaped.append(c);
+        }
+
+        return escaped.toString();
+    }
+
+    private static long toMicros(LocalDateTime dateTime) {
+        var instant = dateTime.toInstant(ZoneOffset.UTC);
+
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000L), instant.getNano() / 1_000);
+    }
+
+    private List<String> analyze(String text) {
+        var terms = new ArrayList<String>();
+
+        if (text == null) {
+            return terms;
+        }
+
+        try (var stream = analyzer.tokenStream(NAME, text)) {
+            var attribute = stream.addAttribute(CharTermAttribute.class);
+
+            stream.reset();
+
+            while (stream.incrementToken()) {
+                terms.add(attribute.toString());
+            }
+
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return terms;
+    }
+
+    private Document toDocument(TaskSearchDocument task, Set<Long> labelIds) {
+        var document = new Document();
+        var name = task.name() == null ? "" : task.name();
+
+        document.add(new StringField(ID, task.id().toString(), Field.Store.YES));
+        document.add(new NumericDocValuesField(ID, task.id()));
+        document.add(new TextField(NAME, name, Field.Store.NO));
+        document.add(new SortedDocValuesField(NAME, new BytesRef(name)));
+        document.add(new TextField(DESCRIPTION, task.description() == null ? "" : task.description(), Field.Store.NO));
+        document.add(new StringField(TITLE, name.toLowerCase(), Field.Store.NO));
+
+        if (task.statusId() != null) {
+            document.add(new LongPoint(STATUS, task.statusId()));
+        }
+
+        if (task.assigneeId() != null) {
+            document.add(new LongPoint(ASSIGNEE, task.assigneeId()));
+        }
+
+        for (var labelId : labelIds) {
+            document.add(new LongPoint(LABEL, labelId));
+            document.add(new StoredField(LABEL, labelId));
+        }
+
+        if (task.index() != null) {
+            document.add(new IntPoint(INDEX, task.index()));
+            document.add(new NumericDocValuesField(INDEX, task.index()));
+        }
+
+        if (task.createdAt() != null) {
+            var createdAt = toMicros(task.createdAt());
+
+            document.add(new LongPoint(CREATED_AT, createdAt));
+            document.add(new NumericDocValuesField(CREATED_AT, createdAt));
+        }
+
+        return document;
+    }
+
+    private Set<Long> storedLabelIds(Long id) throws IOException {
+        var searcher = searcherManager.acquire();
+
+        try {
+            var hits = searcher.search(new TermQuery(new Term(ID, id.toString())), 1).scoreDocs;
+
+            if (hits.length == 0) {
+                return Set.of();
+            }
+
+            var labelIds = new HashSet<Long>();
+
+            for (var field : searcher.storedFields().document(hits[0].doc).getFields(LABEL)) {
+                labelIds.add(field.numericValue().longValue());
+            }
+
+            return labelIds;
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    public record Hits(List<Long> ids, long totalHits, ScoreDoc last) {}
+}
@@ -0,0 +1,94 @@
+package hexlet.code.components;
+
+import hexlet.code.dtos.TaskSearchDocument;
+import hexlet.code.models.Label;
+import hexlet.code.models.Task;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.hibernate.Hibernate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+@Component
+public class TaskSearchIndexListener {
+    private final TaskSearchIndex searchIndex;
+
+    public TaskSearchIndexListener(TaskSearchIndex searchIndex) {
+        this.searchIndex = searchIndex;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Task task) {
+        var labelIds = Hibernate.isInitialized(task.getLabels())
+                ? task.getLabels().stream().map(Label::getId).collect(Collectors.toSet())
+                : null;
+        var document = new TaskSearchDocument(task.getId(), task.getName(), task.getDescription(),
+                task.getTaskStatus() == null ? null : task.getTaskStatus().getId(),
+                task.getAssignee() == null ? null : task.getAssignee().getId(),
+                labelIds, task.getIndex(), task.getCreatedAt());
+
+        stage(changes -> {
+            changes.deleted.remove(task.getId());
+            changes.updated.put(task.getId(), document);
+        });
+    }
+
+    @PostRemove
+    public void onRemove(Task task) {
+        stage(changes -> {
+            changes.updated.remove(task.getId());
+            changes.deleted.add(task.getId());
+        });
+    }
+
+    private void stage(Consumer<Changes> change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            var changes = new Changes();
+
+            change.accept(changes);
+            changes.applyTo(searchIndex);
+
+            return;
+        }
+
+        var changes = (Changes) TransactionSynchronizationManager.getResource(this);
+
+        if (changes == null) {
+            var pending = new Changes();
+
+            changes = pending;
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(TaskSearchIndexListener.this);
+
+                    if (status == STATUS_COMMITTED) {
+                        pending.applyTo(searchIndex);
+                    }
+                }
+            });
+        }
+
+        change.accept(changes);
+    }
+
+    private static final class Changes {
+        private final Map<Long, TaskSearchDocument> updated = new LinkedHashMap<>();
+        private final Set<Long> deleted = new HashSet<>();
+
+        private void applyTo(TaskSearchIndex searchIndex) {
+            searchIndex.apply(updated.values(), deleted);
+        }
+    }
+}
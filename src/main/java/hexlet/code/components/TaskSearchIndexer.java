@@ -0,0 +1,66 @@
+package hexlet.code.components;
+
+import hexlet.code.dtos.TaskLabelId;
+import hexlet.code.dtos.TaskSearchDocument;
+import hexlet.code.repositories.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Component
+@Slf4j
+public class TaskSearchIndexer {
+    private static final int CHUNK_SIZE = 500;
+
+    private final TaskRepository taskRepository;
+    private final TaskSearchIndex searchIndex;
+
+    public TaskSearchIndexer(TaskRepository taskRepository, TaskSearchIndex searchIndex) {
+        this.taskRepository = taskRepository;
+        this.searchIndex = searchIndex;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        var started = System.currentTimeMillis();
+
+        try (var tasks = taskRepository.streamSearchDocuments()) {
+            var iterator = tasks.iterator();
+
+            searchIndex.rebuild(Stream.generate(() -> nextChunk(iterator))
+                    .takeWhile(chunk -> !chunk.isEmpty())
+                    .flatMap(this::withLabels));
+        }
+
+        log.info("Task search index rebuilt in {} ms", System.currentTimeMillis() - started);
+    }
+
+    private List<TaskSearchDocument> nextChunk(Iterator<TaskSearchDocument> iterator) {
+        var chunk = new ArrayList<TaskSearchDocument>(CHUNK_SIZE);
+
+        while (chunk.size() < CHUNK_SIZE && iterator.hasNext()) {
+            chunk.add(iterator.next());
+        }
+
+        return chunk;
+    }
+
+    private Stream<TaskSearchDocument> withLabels(List<TaskSearchDocument> chunk) {
+        var labelIdsByTask = taskRepository.findLabelIdsByTaskIds(chunk.stream().map(TaskSearchDocument::id).toList())
+                .stream()
+                .collect(Collectors.groupingBy(TaskLabelId::taskId,
+                        Collectors.mapping(TaskLabelId::labelId, Collectors.toSet())));
+
+        return chunk.stream().map(task -> task.withLabelIds(labelIdsByTask.getOrDefault(task.id(), Set.of())));
+    }
+}
@@ -0,0 +1,39 @@
+package hexlet.code.components;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import hexlet.code.repositories.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+public class TokenVersionCache {
+    private final UserRepository userRepository;
+    private final Cache<Long, Integer> cache;
+
+    public TokenVersionCache(UserRepository userRepository,
+                             @Value("${app.security.token-version-cache.ttl:1m}") Duration ttl,
+                             @Value("${app.security.token-version-cache.max-size:10000}") long maxSize) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public boolean isCurrent(Long userId, Integer tokenVersion) {
+        var current = cache.get(userId, id -> userRepository.findTokenVersionById(id).orElse(null));
+
+        return current != null && tokenVersion != null && tokenVersion >= current;
+    }
+
+    public void update(Long userId, int tokenVersion) {
+        cache.put(userId, tokenVersion);
+    }
+
+    public void evict(Long userId) {
+        cache.invalidate(userId);
+    }
+}
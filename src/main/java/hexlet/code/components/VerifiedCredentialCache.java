@@ -0,0 +1,70 @@
+package hexlet.code.components;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+
+@Component
+public class VerifiedCredentialCache {
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final SecretKeySpec key;
+    private final Cache<String, VerifiedCredential> cache;
+
+    public VerifiedCredentialCache(@Value("${app.security.basic-auth-cache.ttl:1m}") Duration ttl,
+                                   @Value("${app.security.basic-auth-cache.max-size:1000}") long maxSize) {
+        var secret = new byte[32];
+
+        new SecureRandom().nextBytes(secret);
+
+        this.key = new SecretKeySpec(secret, ALGORITHM);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public UserDetails get(String username, String password) {
+        var cached = cache.getIfPresent(username);
+
+        if (cached == null || !MessageDigest.isEqual(cached.digest(), digest(username, password))) {
+            return null;
+        }
+
+        return cached.userDetails();
+    }
+
+    public void put(String username, String password, UserDetails userDetails) {
+        cache.put(username, new VerifiedCredential(digest(username, password), userDetails));
+    }
+
+    public void evict(String username) {
+        cache.invalidate(username);
+    }
+
+    private byte[] digest(String username, String password) {
+        try {
+            var mac = Mac.getInstance(ALGORITHM);
+
+            mac.init(key);
+            mac.update(username.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+
+            return mac.doFinal(password.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record VerifiedCredential(byte[] digest, UserDetails userDetails) {}
+}
@@ -0,0 +1,44 @@
+package hexlet.code.configurations;
+
+import hexlet.code.components.SqlStatementListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+@ConditionalOnProperty(name = "app.sql.proxy.enabled", matchIfMissing = true)
+public class DataSourceProxyConfig {
+
+    @Bean
+    public static BeanPostProcessor dataSourceProxyPostProcessor(
+            ObjectProvider<SqlStatementListener> listener,
+            @Value("${app.sql.proxy.count-rows:false}") boolean countRows) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+                    return bean;
+                }
+
+                var statementListener = listener.getObject();
+
+                var builder = ProxyDataSourceBuilder.create(dataSource)
+                        .name(beanName)
+                        .listener(statementListener);
+
+                if (countRows) {
+                    builder.methodListener(statementListener).proxyResultSet();
+                }
+
+                return builder.build();
+            }
+        };
+    }
+}
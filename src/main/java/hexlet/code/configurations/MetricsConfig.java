@@ -0,0 +1,21 @@
+package hexlet.code.configurations;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.ClassUtils;
+
+@Configuration
+public class MetricsConfig {
+    public static final String SERVICE_TIMER = "app.service";
+    public static final String JWT_FILTER_TIMER = "app.jwt.filter";
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry, joinPoint -> Tags.of(
+                "class", ClassUtils.getUserClass(joinPoint.getTarget()).getSimpleName(),
+                "method", joinPoint.getSignature().getName()));
+    }
+}
@@ -1,14 +1,22 @@
 package hexlet.code.configurations;
 
+import hexlet.code.components.CachingAuthenticationProvider;
+import hexlet.code.components.JwtPrincipalCache;
 import hexlet.code.components.JwtRequestFilter;
 import hexlet.code.components.JwtUtils;
+import hexlet.code.components.TokenVersionCache;
+import hexlet.code.components.VerifiedCredentialCache;
 import hexlet.code.services.impl.UserServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -17,10 +25,14 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.util.Map;
+
 import static org.springframework.security.config.Customizer.withDefaults;
 
 @Configuration
@@ -30,20 +42,50 @@ public class SecurityConfig {
 
     private final UserServiceImpl userService;
     private final JwtUtils jwtUtils;
+    private final JwtPrincipalCache principalCache;
+    private final TokenVersionCache tokenVersions;
+    private final VerifiedCredentialCache credentialCache;
+    private final boolean statelessAuthorization;
 
-    public SecurityConfig(@Lazy UserServiceImpl userService, JwtUtils jwtUtils) {
+    public SecurityConfig(@Lazy UserServiceImpl userService, JwtUtils jwtUtils, JwtPrincipalCache principalCache,
+                          TokenVersionCache tokenVersions, VerifiedCredentialCache credentialCache,
+                          @Value("${app.security.stateless-authorization:false}") boolean statelessAuthorization) {
         this.userService = userService;
         this.jwtUtils = jwtUtils;
+        this.principalCache = principalCache;
+        this.tokenVersions = tokenVersions;
+        this.credentialCache = credentialCache;
+        this.statelessAuthorization = statelessAuthorization;
+    }
+
+    @Bean
+    public PasswordEncoder passwordEncoder(@Value("${app.security.password.encoder:bcrypt}") String encoderId,
+                                           @Value("${app.security.password.bcrypt-strength:10}") int bcryptStrength) {
+        var bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        var encoders = Map.<String, PasswordEncoder>of(
+                "bcrypt", bcrypt,
+                "pbkdf2", Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+        var passwordEncoder = new DelegatingPasswordEncoder(encoderId, encoders);
+
+        passwordEncoder.setDefaultPasswordEncoderForMatches(bcrypt);
+
+        return passwordEncoder;
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public AuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
+        var daoProvider = new DaoAuthenticationProvider(passwordEncoder);
+
+        daoProvider.setUserDetailsService(userService);
+        daoProvider.setUserDetailsPasswordService(userService);
+
+        return new CachingAuthenticationProvider(daoProvider, credentialCache);
     }
 
     @Bean
-    public JwtRequestFilter jwtRequestFilter() {
-        return new JwtRequestFilter(jwtUtils, userService);
+    public JwtRequestFilter jwtRequestFilter(MeterRegistry meterRegistry) {
+        return new JwtRequestFilter(jwtUtils, userService, principalCache, tokenVersions, statelessAuthorization,
+                meterRegistry);
     }
 
     @Bean
@@ -62,8 +104,7 @@ public class SecurityConfig {
                         .requestMatchers("/", "/api/login", "/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html").permitAll()
                         .anyRequest().authenticated()
                 )
-                .httpBasic(withDefaults())
-                .userDetailsService(userService);
+                .httpBasic(withDefaults());
 
         http.addFilterBefore(jwtRequestFilter, UsernamePasswordAuthenticationFilter.class);
 
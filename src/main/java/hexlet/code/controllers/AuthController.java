@@ -1,7 +1,9 @@
 package hexlet.code.controllers;
 
 import hexlet.code.components.JwtUtils;
+import hexlet.code.components.PasswordHashingExecutor;
 import hexlet.code.dtos.LoginRequest;
+import hexlet.code.models.User;
 import hexlet.code.services.impl.UserServiceImpl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.AuthenticationException;
@@ -10,29 +12,38 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping("/api")
 public class AuthController {
 
     private final UserServiceImpl userService;
     private final JwtUtils jwtUtils;
+    private final PasswordHashingExecutor passwordHashingExecutor;
 
-    public AuthController(UserServiceImpl userService, JwtUtils jwtUtils) {
+    public AuthController(UserServiceImpl userService, JwtUtils jwtUtils,
+                          PasswordHashingExecutor passwordHashingExecutor) {
         this.userService = userService;
         this.jwtUtils = jwtUtils;
+        this.passwordHashingExecutor = passwordHashingExecutor;
     }
 
     @PostMapping("/login")
-    public ResponseEntity<?> login(@RequestBody LoginRequest loginRequest) {
-        try {
-            userService.findByEmailAndPassword(loginRequest.getUsername(), loginRequest.password());
-        } catch (AuthenticationException e) {
-            return ResponseEntity.status(403).body("Invalid credentials");
-        }
+    public CompletableFuture<ResponseEntity<?>> login(@RequestBody LoginRequest loginRequest) {
+        return passwordHashingExecutor.submit(() -> {
+            User user;
+
+            try {
+                user = userService.authenticate(loginRequest.getUsername(), loginRequest.password());
+            } catch (AuthenticationException e) {
+                return ResponseEntity.status(403).body("Invalid credentials");
+            }
 
-        var token = jwtUtils.generateToken(loginRequest.getUsername());
+            var token = jwtUtils.generateToken(user);
 
-        return ResponseEntity.ok(token);
+            return ResponseEntity.ok(token);
+        });
     }
 
 }
@@ -1,9 +1,13 @@
 package hexlet.code.controllers;
 
+import hexlet.code.components.EntityChangeTracker;
 import hexlet.code.dtos.requests.LabelRequestDto;
 import hexlet.code.dtos.response.LabelResponseDto;
+import hexlet.code.models.Label;
 import hexlet.code.services.LabelService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -12,9 +16,12 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -23,24 +30,45 @@ import java.util.List;
 @RequestMapping("/api/labels")
 public class LabelController {
     private final LabelService labelService;
+    private final EntityChangeTracker changeTracker;
 
-    public LabelController(LabelService labelService) {
+    public LabelController(LabelService labelService, EntityChangeTracker changeTracker) {
         this.labelService = labelService;
+        this.changeTracker = changeTracker;
     }
 
     @GetMapping("/{id}")
-    @ResponseStatus(HttpStatus.OK)
-    public LabelResponseDto getLabelById(@PathVariable final Long id) {
-        return labelService.findById(id);
+    public ResponseEntity<LabelResponseDto> getLabelById(@PathVariable final Long id, WebRequest request) {
+        var etag = changeTracker.strongETag(labelService.findVersion(id));
+
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(labelService.findById(id));
     }
 
     @GetMapping
-    public ResponseEntity<List<LabelResponseDto>> getAllLabels() {
-            var labelDtos = labelService.findAll();
+    public ResponseEntity<List<LabelResponseDto>> getAllLabels(
+            @RequestParam(name = "_sort", required = false) String sort,
+            @RequestParam(name = "_order", required = false) String order,
+            WebRequest request) {
+            var etag = changeTracker.weakETag(Label.class);
+
+            if (request.checkNotModified(etag)) {
+                return null;
+            }
+
+            var labelDtos = labelService.findAll(sort, order);
 
             return ResponseEntity.ok()
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
                     .header("X-Total-Count", String.valueOf(labelDtos.size()))
-                    .header("Access-Control-Expose-Headers", "X-Total-Count")
+                    .header("Access-Control-Expose-Headers", "X-Total-Count, ETag")
                     .body(labelDtos);
     }
 
@@ -51,9 +79,17 @@ public class LabelController {
     }
 
     @PutMapping("/{id}")
-    @ResponseStatus(HttpStatus.OK)
-    public LabelResponseDto updateLabel(@PathVariable final Long id, @RequestBody LabelRequestDto labelRequestDto) {
-        return labelService.update(labelRequestDto);
+    public ResponseEntity<LabelResponseDto> updateLabel(@PathVariable final Long id,
+                                                        @RequestBody LabelRequestDto labelRequestDto,
+                                                        @RequestHeader(name = HttpHeaders.IF_MATCH, required = false)
+                                                        String ifMatch) {
+        labelRequestDto.setId(id);
+
+        var updated = labelService.update(labelRequestDto, changeTracker.parseIfMatch(ifMatch));
+
+        return ResponseEntity.ok()
+                .eTag(changeTracker.strongETag(updated.getVersion()))
+                .body(updated);
     }
 
     @DeleteMapping("/{id}")
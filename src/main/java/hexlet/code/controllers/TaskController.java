@@ -1,10 +1,20 @@
 package hexlet.code.controllers;
 
+import hexlet.code.components.EntityChangeTracker;
+import hexlet.code.dtos.TaskExportFormat;
 import hexlet.code.dtos.requests.FilterRequestDto;
 import hexlet.code.dtos.requests.TaskRequestDto;
+import hexlet.code.dtos.response.TaskBatchResultDto;
+import hexlet.code.dtos.response.TaskImportResponseDto;
 import hexlet.code.dtos.response.TaskResponseDto;
+import hexlet.code.models.Task;
+import hexlet.code.models.TaskStatus;
+import hexlet.code.services.impl.TaskBatchServiceImpl;
+import hexlet.code.services.impl.TaskImportServiceImpl;
 import hexlet.code.services.impl.TaskServiceImpl;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -13,10 +23,16 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -24,15 +40,31 @@ import java.util.List;
 @RequestMapping("/api/tasks")
 public class TaskController {
     private final TaskServiceImpl taskService;
+    private final TaskBatchServiceImpl taskBatchService;
+    private final TaskImportServiceImpl taskImportService;
+    private final EntityChangeTracker changeTracker;
 
-    public TaskController(TaskServiceImpl taskService) {
+    public TaskController(TaskServiceImpl taskService, TaskBatchServiceImpl taskBatchService,
+                          TaskImportServiceImpl taskImportService, EntityChangeTracker changeTracker) {
         this.taskService = taskService;
+        this.taskBatchService = taskBatchService;
+        this.taskImportService = taskImportService;
+        this.changeTracker = changeTracker;
     }
 
     @GetMapping("/{id}")
-    @ResponseStatus(HttpStatus.OK)
-    public TaskResponseDto getTaskById(@PathVariable final Long id) {
-        return taskService.findById(id);
+    public ResponseEntity<TaskResponseDto> getTaskById(@PathVariable final Long id, WebRequest request) {
+        var versions = taskService.findVersions(id);
+        var etag = changeTracker.strongETag(versions.version(), versions.statusVersion());
+
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(taskService.findById(id));
     }
 
     @PostMapping
@@ -48,20 +80,115 @@ public class TaskController {
     }
 
     @PutMapping("/{id}")
-    @ResponseStatus(HttpStatus.OK)
-    public TaskResponseDto updateTask(@PathVariable final Long id, @RequestBody TaskRequestDto taskRequestDto) {
+    public ResponseEntity<TaskResponseDto> updateTask(@PathVariable final Long id,
+                                                      @RequestBody TaskRequestDto taskRequestDto,
+                                                      @RequestHeader(name = HttpHeaders.IF_MATCH, required = false)
+                                                      String ifMatch) {
         taskRequestDto.setId(id);
 
-        return taskService.update(taskRequestDto);
+        var updated = taskService.update(taskRequestDto, changeTracker.parseIfMatch(ifMatch));
+        var versions = taskService.findVersions(id);
+
+        return ResponseEntity.ok()
+                .eTag(changeTracker.strongETag(updated.getVersion(), versions.statusVersion()))
+                .body(updated);
     }
 
     @GetMapping
-    public ResponseEntity<List<TaskResponseDto>> getTasks(FilterRequestDto filter) {
-        var taskDtos = taskService.findByFilter(filter);
+    public ResponseEntity<List<TaskResponseDto>> getTasks(FilterRequestDto filter,
+                                                          @RequestParam(name = "_start", required = false) Integer start,
+                                                          @RequestParam(name = "_end", required = false) Integer end,
+                                                          @RequestParam(name = "_sort", required = false) String sort,
+                                                          @RequestParam(name = "_order", required = false) String order,
+                                                          @RequestParam(required = false) List<String> status,
+                                                          WebRequest request) {
+        var etag = changeTracker.weakETag(Task.class, TaskStatus.class);
+
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+
+        bindStatus(filter, status);
+        filter.setStart(start);
+        filter.setEnd(end);
+        filter.setSort(sort);
+        filter.setOrder(order);
+
+        var page = taskService.findPage(filter);
+        var response = ResponseEntity.ok();
+
+        if (page.getTotalCount() != null) {
+            response.header("X-Total-Count", String.valueOf(page.getTotalCount()));
+        }
+
+        if (page.getNextCursor() != null) {
+            response.header("X-Next-Cursor", page.getNextCursor());
+        }
+
+        return response
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .header("Access-Control-Expose-Headers", "X-Total-Count, X-Next-Cursor, ETag")
+                .body(page.getContent());
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(FilterRequestDto filter,
+                                                             @RequestParam(defaultValue = "ndjson") String format,
+                                                             @RequestParam(required = false) List<String> status,
+                                                          WebRequest request) {
+        var etag = changeTracker.weakETag(Task.class, TaskStatus.class);
+
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+
+        bindStatus(filter, status);
+
+        var exportFormat = TaskExportFormat.of(format);
+        StreamingResponseBody body = out -> taskService.export(filter, exportFormat, out);
 
         return ResponseEntity.ok()
-                .header("X-Total-Count", String.valueOf(taskDtos.size()))
-                .header("Access-Control-Expose-Headers", "X-Total-Count")
-                .body(taskDtos);
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=tasks." + exportFormat.getExtension())
+                .body(body);
+    }
+
+    @PostMapping("/import")
+    @ResponseStatus(HttpStatus.OK)
+    public TaskImportResponseDto importTasks(InputStream body,
+                                             @RequestParam(defaultValue = "ndjson") String format,
+                                             @RequestParam(required = false) Long importId) throws IOException {
+        return taskImportService.importTasks(body, TaskExportFormat.of(format), importId);
+    }
+
+    @GetMapping("/import/{id}")
+    @ResponseStatus(HttpStatus.OK)
+    public TaskImportResponseDto getImport(@PathVariable final Long id) {
+        return taskImportService.findById(id);
+    }
+
+    @PostMapping("/batch")
+    @ResponseStatus(HttpStatus.OK)
+    public List<TaskBatchResultDto> createTasks(@RequestBody List<TaskRequestDto> taskRequestDtos) {
+        return taskBatchService.createBatch(taskRequestDtos);
+    }
+
+    @PutMapping("/batch")
+    @ResponseStatus(HttpStatus.OK)
+    public List<TaskBatchResultDto> updateTasks(@RequestBody List<TaskRequestDto> taskRequestDtos) {
+        return taskBatchService.updateBatch(taskRequestDtos);
+    }
+
+    @DeleteMapping("/batch")
+    @ResponseStatus(HttpStatus.OK)
+    public List<TaskBatchResultDto> deleteTasks(@RequestBody List<Long> ids) {
+        return taskBatchService.deleteBatch(ids);
+    }
+
+    private void bindStatus(FilterRequestDto filter, List<String> status) {
+        if (status != null) {
+            filter.setSlug(status);
+        }
     }
 }
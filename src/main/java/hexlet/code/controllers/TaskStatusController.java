@@ -1,10 +1,16 @@
 package hexlet.code.controllers;
 
+import hexlet.code.components.EntityChangeTracker;
 import hexlet.code.dtos.requests.TaskStatusRequestDto;
 import hexlet.code.dtos.response.TaskStatusResponseDto;
+import hexlet.code.exceptions.PreconditionFailedException;
+import hexlet.code.models.TaskStatus;
 import hexlet.code.services.impl.TaskStatusServiceImpl;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -13,9 +19,12 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -26,18 +35,29 @@ import static org.springframework.http.HttpStatus.*;
 @RequestMapping("/api/task_statuses")
 public class TaskStatusController {
     private final TaskStatusServiceImpl taskStatusService;
+    private final EntityChangeTracker changeTracker;
 
-    public TaskStatusController(TaskStatusServiceImpl taskStatusService) {
+    public TaskStatusController(TaskStatusServiceImpl taskStatusService, EntityChangeTracker changeTracker) {
         this.taskStatusService = taskStatusService;
+        this.changeTracker = changeTracker;
     }
 
     @GetMapping("/{id}")
     @ResponseStatus(HttpStatus.OK)
-    public ResponseEntity<TaskStatusResponseDto> getTaskStatusById(@PathVariable final Long id) {
+    public ResponseEntity<TaskStatusResponseDto> getTaskStatusById(@PathVariable final Long id, WebRequest request) {
         try {
+            var etag = changeTracker.strongETag(taskStatusService.findVersion(id));
+
+            if (request.checkNotModified(etag)) {
+                return null;
+            }
+
             var taskStatusDto = taskStatusService.findById(id);
 
-            return new ResponseEntity<>(taskStatusDto, OK);
+            return ResponseEntity.status(OK)
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .body(taskStatusDto);
         } catch (Exception e) {
             log.error(e.getMessage());
 
@@ -46,12 +66,23 @@ public class TaskStatusController {
     }
 
     @GetMapping
-    public ResponseEntity<List<TaskStatusResponseDto>> getAllTaskStatuses() {
-        var taskStatusDtos = taskStatusService.findAll();
+    public ResponseEntity<List<TaskStatusResponseDto>> getAllTaskStatuses(
+            @RequestParam(name = "_sort", required = false) String sort,
+            @RequestParam(name = "_order", required = false) String order,
+            WebRequest request) {
+        var etag = changeTracker.weakETag(TaskStatus.class);
+
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+
+        var taskStatusDtos = taskStatusService.findAll(sort, order);
 
         return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
                 .header("X-Total-Count", String.valueOf(taskStatusDtos.size()))
-                .header("Access-Control-Expose-Headers", "X-Total-Count")
+                .header("Access-Control-Expose-Headers", "X-Total-Count, ETag")
                 .body(taskStatusDtos);
     }
 
@@ -81,13 +112,19 @@ public class TaskStatusController {
 
     @PutMapping("/{id}")
     @ResponseStatus(HttpStatus.OK)
-    public ResponseEntity<TaskStatusResponseDto> updateTaskStatus(@PathVariable final Long id, @RequestBody TaskStatusRequestDto taskStatusRequestDto) {
+    public ResponseEntity<TaskStatusResponseDto> updateTaskStatus(
+            @PathVariable final Long id, @RequestBody TaskStatusRequestDto taskStatusRequestDto,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         try {
             taskStatusRequestDto.setId(id);
 
-            var updatedUser = taskStatusService.update(taskStatusRequestDto);
+            var updatedUser = taskStatusService.update(taskStatusRequestDto, changeTracker.parseIfMatch(ifMatch));
 
-            return new ResponseEntity<>(updatedUser, OK);
+            return ResponseEntity.status(OK)
+                    .eTag(changeTracker.strongETag(updatedUser.getVersion()))
+                    .body(updatedUser);
+        } catch (PreconditionFailedException | OptimisticLockingFailureException e) {
+            throw e;
         } catch (Exception e) {
             log.error(e.getMessage());
 
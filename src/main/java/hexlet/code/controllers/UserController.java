@@ -1,10 +1,14 @@
 package hexlet.code.controllers;
 
+import hexlet.code.components.EntityChangeTracker;
 import hexlet.code.dtos.requests.UserRequestDto;
 import hexlet.code.dtos.response.UserResponseDto;
+import hexlet.code.models.User;
 import hexlet.code.services.impl.UserServiceImpl;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -14,9 +18,12 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -27,28 +34,47 @@ import static org.springframework.http.HttpStatus.*;
 @RequestMapping("/api/users")
 public class UserController {
     private final UserServiceImpl userService;
+    private final EntityChangeTracker changeTracker;
 
-    public UserController(UserServiceImpl userService) {
+    public UserController(UserServiceImpl userService, EntityChangeTracker changeTracker) {
         this.userService = userService;
+        this.changeTracker = changeTracker;
         System.out.println("!!! UserController INITIALIZED !!!");
     }
 
     @PreAuthorize("#name == authentication.name or hasRole('ADMIN')")
     @GetMapping("/{id}")
-    @ResponseStatus(HttpStatus.OK)
-    public UserResponseDto getUserById(@PathVariable final Long id) {
-            var user = userService.findById(id);
+    public ResponseEntity<UserResponseDto> getUserById(@PathVariable final Long id, WebRequest request) {
+        var etag = changeTracker.strongETag(userService.findVersion(id));
 
-            return user;
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(userService.findById(id));
     }
 
     @GetMapping
-    public ResponseEntity<List<UserResponseDto>> getAllUsers() {
-        var users = userService.findAll();
+    public ResponseEntity<List<UserResponseDto>> getAllUsers(
+            @RequestParam(name = "_sort", required = false) String sort,
+            @RequestParam(name = "_order", required = false) String order,
+            WebRequest request) {
+        var etag = changeTracker.weakETag(User.class);
+
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+
+        var users = userService.findAll(sort, order);
 
         return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
                 .header("X-Total-Count", String.valueOf(users.size()))
-                .header("Access-Control-Expose-Headers", "X-Total-Count")
+                .header("Access-Control-Expose-Headers", "X-Total-Count, ETag")
                 .body(users);
     }
 
@@ -59,11 +85,16 @@ public class UserController {
     }
 
     @PutMapping("/{id}")
-    @ResponseStatus(HttpStatus.OK)
-    public UserResponseDto updateUser(@PathVariable final Long id, @RequestBody UserRequestDto user) {
+    public ResponseEntity<UserResponseDto> updateUser(@PathVariable final Long id, @RequestBody UserRequestDto user,
+                                                      @RequestHeader(name = HttpHeaders.IF_MATCH, required = false)
+                                                      String ifMatch) {
         user.setId(id);
 
-        return userService.update(user);
+        var updated = userService.update(user, changeTracker.parseIfMatch(ifMatch));
+
+        return ResponseEntity.ok()
+                .eTag(changeTracker.strongETag(updated.getVersion()))
+                .body(updated);
     }
 
     @PreAuthorize("#name == authentication.name or hasRole('ADMIN')")
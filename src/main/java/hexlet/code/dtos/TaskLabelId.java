@@ -0,0 +1,3 @@
+package hexlet.code.dtos;
+
+public record TaskLabelId(Long taskId, Long labelId) {}
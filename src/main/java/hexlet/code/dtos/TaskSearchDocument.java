@@ -0,0 +1,24 @@
+package hexlet.code.dtos;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+public record TaskSearchDocument(
+        Long id,
+        String name,
+        String description,
+        Long statusId,
+        Long assigneeId,
+        Set<Long> labelIds,
+        Integer index,
+        LocalDateTime createdAt
+) {
+    public TaskSearchDocument(Long id, String name, String description, Long statusId, Long assigneeId,
+                              Integer index, LocalDateTime createdAt) {
+        this(id, name, description, statusId, assigneeId, null, index, createdAt);
+    }
+
+    public TaskSearchDocument withLabelIds(Set<Long> labelIds) {
+        return new TaskSearchDocument(id, name, description, statusId, assigneeId, labelIds, index, createdAt);
+    }
+}
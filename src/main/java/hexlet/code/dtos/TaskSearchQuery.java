@@ -0,0 +1,21 @@
+package hexlet.code.dtos;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+public record TaskSearchQuery(
+        String text,
+        String titleCont,
+        Collection<Long> statusIds,
+        Collection<Long> assigneeIds,
+        Collection<Long> labelIds,
+        boolean matchAllLabels,
+        LocalDateTime createdAtFrom,
+        LocalDateTime createdAtTo,
+        Integer indexFrom,
+        Integer indexTo
+) {
+    public static TaskSearchQuery of(String text) {
+        return new TaskSearchQuery(text, null, null, null, null, false, null, null, null, null);
+    }
+}
@@ -0,0 +1,3 @@
+package hexlet.code.dtos;
+
+public record TaskVersion(long version, long statusVersion) {}
@@ -0,0 +1,13 @@
+package hexlet.code.dtos;
+
+import java.time.LocalDateTime;
+
+public record TaskView(
+        Long id,
+        Integer index,
+        String name,
+        String description,
+        String status,
+        Long assigneeId,
+        LocalDateTime createdAt
+) {}
@@ -6,6 +6,10 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 @EqualsAndHashCode(callSuper = true)
 @Data
@@ -13,10 +17,29 @@ import lombok.experimental.SuperBuilder;
 @NoArgsConstructor
 @AllArgsConstructor
 public class FilterRequestDto extends BaseRequestDto {
+    public static final String LABEL_MATCH_ANY = "any";
+    public static final String LABEL_MATCH_ALL = "all";
+
     private String titleCont;
-    private Long assigneeId;
+    private String q;
+    private List<Long> assigneeId;
 
     @JsonProperty("status")
-    private String slug;
-    private Long labelId;
+    private List<String> slug;
+    private List<Long> labelId;
+    private String labelMatch;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdAtFrom;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdAtTo;
+    private Integer indexFrom;
+    private Integer indexTo;
+
+    private String sort;
+    private String order;
+    private Integer start;
+    private Integer end;
+    private String cursor;
+    private Boolean count;
 }
@@ -1,5 +1,6 @@
 package hexlet.code.dtos.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -11,4 +12,7 @@ import lombok.experimental.SuperBuilder;
 @AllArgsConstructor
 public class BaseResponseDto {
     protected Long id;
+
+    @JsonIgnore
+    protected Long version;
 }
@@ -0,0 +1,17 @@
+package hexlet.code.dtos.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBatchResultDto {
+    private int index;
+    private Long id;
+    private TaskResponseDto task;
+    private String error;
+}
@@ -0,0 +1,15 @@
+package hexlet.code.dtos.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskImportErrorDto {
+    private long line;
+    private String error;
+}
@@ -0,0 +1,22 @@
+package hexlet.code.dtos.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskImportResponseDto {
+    private Long id;
+    private String format;
+    private String status;
+    private long lastCommittedLine;
+    private long importedCount;
+    private long failedCount;
+    private List<TaskImportErrorDto> errors;
+}
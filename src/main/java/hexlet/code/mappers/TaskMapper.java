@@ -1,5 +1,6 @@
 package hexlet.code.mappers;
 
+import hexlet.code.dtos.TaskView;
 import hexlet.code.dtos.requests.TaskRequestDto;
 import hexlet.code.dtos.requests.UserRequestDto;
 import hexlet.code.dtos.response.TaskResponseDto;
@@ -52,6 +53,12 @@ public abstract class TaskMapper implements BaseMapper<TaskRequestDto, TaskRespo
     @Mapping(target = "taskLabelIds", source = "labels", qualifiedByName = "labelsToIds")
     public abstract TaskResponseDto toResponse(Task entity);
 
+    @Mapping(target = "id", source = "view.id")
+    @Mapping(target = "title", source = "view.name")
+    @Mapping(target = "content", source = "view.description")
+    @Mapping(target = "taskLabelIds", source = "taskLabelIds")
+    public abstract TaskResponseDto toResponse(TaskView view, Set<Long> taskLabelIds);
+
     @Override
     @Mapping(target = "name", source = "title")
     @Mapping(target = "description", source = "content")
@@ -60,6 +67,22 @@ public abstract class TaskMapper implements BaseMapper<TaskRequestDto, TaskRespo
     @Mapping(target = "labels", source = "taskLabelIds", qualifiedByName = "idsToLabels")
     public abstract void updateEntity(TaskRequestDto dto, @MappingTarget Task entity);
 
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "name", source = "title")
+    @Mapping(target = "description", source = "content")
+    @Mapping(target = "taskStatus", ignore = true)
+    @Mapping(target = "assignee", ignore = true)
+    @Mapping(target = "labels", ignore = true)
+    public abstract Task toBaseEntity(TaskRequestDto dto);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "name", source = "title")
+    @Mapping(target = "description", source = "content")
+    @Mapping(target = "taskStatus", ignore = true)
+    @Mapping(target = "assignee", ignore = true)
+    @Mapping(target = "labels", ignore = true)
+    public abstract void updateBaseEntity(TaskRequestDto dto, @MappingTarget Task entity);
+
     @Named("slugToStatus")
     protected TaskStatus slugToStatus(String slug) {
         if (slug == null)
@@ -1,7 +1,10 @@
 package hexlet.code.models;
 
+import hexlet.code.components.EntityChangeListener;
+import hexlet.code.components.TaskSearchIndexListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -9,7 +12,9 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
@@ -20,14 +25,16 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
+@EntityListeners({TaskSearchIndexListener.class, EntityChangeListener.class})
 @Table(name = "tasks")
 @Getter
 @Setter
 @EqualsAndHashCode
-public class Task implements BaseEntity {
+public class Task implements VersionedEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_seq")
+    @SequenceGenerator(name = "tasks_seq", sequenceName = "tasks_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -58,4 +65,7 @@ public class Task implements BaseEntity {
     @CreationTimestamp
     @Column(updatable = false)
     private LocalDateTime createdAt;
+
+    @Version
+    private Long version;
 }
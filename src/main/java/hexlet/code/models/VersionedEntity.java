@@ -0,0 +1,5 @@
+package hexlet.code.models;
+
+public interface VersionedEntity extends BaseEntity {
+    Long getVersion();
+}
@@ -0,0 +1,18 @@
+package hexlet.code.repositories;
+
+import hexlet.code.models.TaskImport;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface TaskImportRepository extends JpaRepository<TaskImport, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM TaskImport i WHERE i.id = :id")
+    Optional<TaskImport> findForUpdateById(Long id);
+}
@@ -1,31 +1,54 @@
 package hexlet.code.repositories;
 
+import hexlet.code.dtos.TaskLabelId;
+import hexlet.code.dtos.TaskSearchDocument;
+import hexlet.code.dtos.TaskVersion;
 import hexlet.code.models.Task;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.EntityGraph;
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends VersionedRepository<Task>, TaskRepositoryCustom {
+    @EntityGraph(attributePaths = {"labels", "taskStatus", "assignee"})
+    Optional<Task> findById(Long id);
+
+    @EntityGraph(attributePaths = {"labels", "taskStatus", "assignee"})
+    List<Task> findByIdIn(Collection<Long> ids);
+
     @Query("""
-        SELECT t FROM Task t
-        WHERE (:titleCont IS NULL OR LOWER(t.name) LIKE LOWER(CONCAT('%', :titleCont, '%')))
-          AND (:assigneeId IS NULL OR t.assignee.id = :assigneeId)
-          AND (:status IS NULL OR t.taskStatus.slug = :status)
-          AND (:labelId IS NULL OR :labelId IN (SELECT l.id FROM t.labels l))
+        SELECT new hexlet.code.dtos.TaskVersion(t.version, s.version) FROM Task t
+        JOIN t.taskStatus s
+        WHERE t.id = :id
     """)
-    List<Task> findByFilter(
-            @Param("titleCont") String titleCont,
-            @Param("assigneeId") Long assigneeId,
-            @Param("status") String status,
-            @Param("labelId") Long labelId
-    );
+    Optional<TaskVersion> findVersionsById(@Param("id") Long id);
 
-    @EntityGraph(attributePaths = {"labels", "taskStatus", "assignee"})
-    Optional<Task> findById(Long id);
+    @Query("""
+        SELECT new hexlet.code.dtos.TaskLabelId(t.id, l.id) FROM Task t
+        JOIN t.labels l
+        WHERE t.id IN :taskIds
+    """)
+    List<TaskLabelId> findLabelIdsByTaskIds(@Param("taskIds") Collection<Long> taskIds);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+        SELECT new hexlet.code.dtos.TaskSearchDocument(t.id, t.name, t.description, s.id, a.id, t.index, t.createdAt)
+        FROM Task t
+        JOIN t.taskStatus s
+        LEFT JOIN t.assignee a
+        ORDER BY t.id
+    """)
+    Stream<TaskSearchDocument> streamSearchDocuments();
 }
@@ -0,0 +1,22 @@
+package hexlet.code.repositories;
+
+import hexlet.code.dtos.TaskCursor;
+import hexlet.code.dtos.TaskView;
+import hexlet.code.dtos.requests.FilterRequestDto;
+import org.springframework.data.domain.Sort;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface TaskRepositoryCustom {
+    List<TaskView> findByFilter(FilterRequestDto filter, Sort sort);
+
+    List<TaskView> findByFilter(FilterRequestDto filter, Sort sort, TaskCursor after, int offset, int limit);
+
+    List<TaskView> findByFilter(FilterRequestDto filter, Sort sort, Collection<Long> ids);
+
+    long countByFilter(FilterRequestDto filter);
+
+    Stream<TaskView> streamByFilter(FilterRequestDto filter, Sort sort, int fetchSize);
+}
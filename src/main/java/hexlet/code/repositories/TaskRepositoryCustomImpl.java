@@ -0,0 +1,193 @@
+package hexlet.code.repositories;
+
+import hexlet.code.dtos.TaskCursor;
+import hexlet.code.dtos.TaskView;
+import hexlet.code.dtos.requests.FilterRequestDto;
+import hexlet.code.models.Label;
+import hexlet.code.models.Task;
+import hexlet.code.models.TaskStatus;
+import hexlet.code.models.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.AbstractQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TaskView> findByFilter(FilterRequestDto filter, Sort sort) {
+        return createQuery(filter, sort, null, null).getResultList();
+    }
+
+    @Override
+    public List<TaskView> findByFilter(FilterRequestDto filter, Sort sort, TaskCursor after, int offset,
+                                       int limit) {
+        return createQuery(filter, sort, after, null)
+                .setFirstResult(offset)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<TaskView> findByFilter(FilterRequestDto filter, Sort sort, Collection<Long> ids) {
+        return createQuery(filter, sort, null, ids).getResultList();
+    }
+
+    @Override
+    public long countByFilter(FilterRequestDto filter) {
+        var cb = entityManager.getCriteriaBuilder();
+        var query = cb.createQuery(Long.class);
+        var task = query.from(Task.class);
+        var predicates = filterPredicates(cb, query, task, filter, () -> task.<Task, TaskStatus>join("taskStatus"));
+
+        query.select(cb.count(task)).where(predicates.toArray(Predicate[]::new));
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    @Override
+    public Stream<TaskView> streamByFilter(FilterRequestDto filter, Sort sort, int fetchSize) {
+        return createQuery(filter, sort, null, null)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    private TypedQuery<TaskView> createQuery(FilterRequestDto filter, Sort sort, TaskCursor after,
+                                             Collection<Long> ids) {
+        var cb = entityManager.getCriteriaBuilder();
+        var query = cb.createQuery(TaskView.class);
+        var task = query.from(Task.class);
+        var status = task.<Task, TaskStatus>join("taskStatus");
+        var assignee = task.<Task, User>join("assignee", JoinType.LEFT);
+        var predicates = filterPredicates(cb, query, task, filter, () -> status);
+        Path<LocalDateTime> createdAt = task.get("createdAt");
+        Path<Long> id = task.get("id");
+
+        if (after != null) {
+            var order = sort.getOrderFor("createdAt");
+            var descending = order != null && order.isDescending();
+
+            predicates.add(descending
+                    ? cb.or(cb.lessThan(createdAt, after.createdAt()),
+                            cb.and(cb.equal(createdAt, after.createdAt()), cb.lessThan(id, after.id())))
+                    : cb.or(cb.greaterThan(createdAt, after.createdAt()),
+                            cb.and(cb.equal(createdAt, after.createdAt()), cb.greaterThan(id, after.id()))));
+        }
+
+        if (ids != null) {
+            predicates.add(id.in(ids));
+        }
+
+        if (sort != null) {
+            query.orderBy(QueryUtils.toOrders(sort, task, cb));
+        }
+
+        query.select(cb.construct(TaskView.class,
+                        id,
+                        task.get("index"),
+                        task.get("name"),
+                        task.get("description"),
+                        status.get("slug"),
+                        assignee.get("id"),
+                        createdAt))
+                .where(predicates.toArray(Predicate[]::new));
+
+        return entityManager.createQuery(query);
+    }
+
+    private List<Predicate> filterPredicates(CriteriaBuilder cb, AbstractQuery<?> query, Root<Task> task,
+                                             FilterRequestDto filter, Supplier<Path<TaskStatus>> status) {
+        var predicates = new ArrayList<Predicate>();
+
+        if (filter.getTitleCont() != null) {
+            var pattern = "%" + filter.getTitleCont().toLowerCase() + "%";
+
+            predicates.add(cb.like(cb.lower(task.<String>get("name")), pattern));
+        }
+
+        var assigneeIds = values(filter.getAssigneeId());
+
+        if (!assigneeIds.isEmpty()) {
+            predicates.add(task.get("assignee").get("id").in(assigneeIds));
+        }
+
+        var slugs = values(filter.getSlug());
+
+        if (!slugs.isEmpty()) {
+            predicates.add(status.get().get("slug").in(slugs));
+        }
+
+        var labelIds = values(filter.getLabelId());
+
+        if (!labelIds.isEmpty()) {
+            predicates.add(labelPredicate(cb, query, task, labelIds,
+                    FilterRequestDto.LABEL_MATCH_ALL.equalsIgnoreCase(filter.getLabelMatch())));
+        }
+
+        Path<LocalDateTime> createdAt = task.get("createdAt");
+
+        if (filter.getCreatedAtFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(createdAt, filter.getCreatedAtFrom()));
+        }
+
+        if (filter.getCreatedAtTo() != null) {
+            predicates.add(cb.lessThanOrEqualTo(createdAt, filter.getCreatedAtTo()));
+        }
+
+        Path<Integer> index = task.get("index");
+
+        if (filter.getIndexFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(index, filter.getIndexFrom()));
+        }
+
+        if (filter.getIndexTo() != null) {
+            predicates.add(cb.lessThanOrEqualTo(index, filter.getIndexTo()));
+        }
+
+        return predicates;
+    }
+
+    private Predicate labelPredicate(CriteriaBuilder cb, AbstractQuery<?> query, Root<Task> task,
+                                     List<Long> labelIds, boolean matchAll) {
+        var subquery = query.subquery(Long.class);
+        var label = subquery.correlate(task).<Task, Label>join("labels");
+        Path<Long> labelId = label.get("id");
+
+        if (!matchAll || labelIds.size() == 1) {
+            subquery.select(labelId).where(labelId.in(labelIds));
+
+            return cb.exists(subquery);
+        }
+
+        subquery.select(cb.countDistinct(labelId)).where(labelId.in(labelIds));
+
+        return cb.equal(subquery, (long) labelIds.size());
+    }
+
+    private static <T> List<T> values(List<T> values) {
+        if (values == null) {
+            return List.of();
+        }
+
+        return values.stream().filter(Objects::nonNull).distinct().toList();
+    }
+}
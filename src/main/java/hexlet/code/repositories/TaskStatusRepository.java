@@ -1,12 +1,28 @@
 package hexlet.code.repositories;
 
 import hexlet.code.models.TaskStatus;
-import org.springframework.data.jpa.repository.JpaRepository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface TaskStatusRepository extends JpaRepository<TaskStatus, Long> {
+public interface TaskStatusRepository extends VersionedRepository<TaskStatus> {
+    String CACHE_REGION = "task-statuses";
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CACHE_REGION)
+    })
     Optional<TaskStatus> findBySlug(String name);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CACHE_REGION)
+    })
+    List<TaskStatus> findBySlugIn(Collection<String> slugs);
 }
@@ -0,0 +1,14 @@
+package hexlet.code.repositories;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+@NoRepositoryBean
+public interface VersionedRepository<E> extends JpaRepository<E, Long> {
+    @Query("SELECT e.version FROM #{#entityName} e WHERE e.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+}
@@ -1,23 +1,39 @@
 package hexlet.code.services;
 
+import hexlet.code.configurations.MetricsConfig;
 import hexlet.code.dtos.requests.BaseRequestDto;
 import hexlet.code.dtos.response.BaseResponseDto;
+import hexlet.code.exceptions.PreconditionFailedException;
 import hexlet.code.mappers.BaseMapper;
-import hexlet.code.models.BaseEntity;
-import org.springframework.data.jpa.repository.JpaRepository;
+import hexlet.code.models.VersionedEntity;
+import hexlet.code.repositories.VersionedRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.data.domain.Sort;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
-public abstract class AbstractCrudService<Req extends BaseRequestDto, Res extends BaseResponseDto, E extends BaseEntity> {
-    protected final JpaRepository<E, Long> repository;
+public abstract class AbstractCrudService<Req extends BaseRequestDto, Res extends BaseResponseDto, E extends VersionedEntity> {
+    protected static final int BULK_CHUNK_SIZE = 500;
+    protected static final String ID_PROPERTY = "id";
+
+    protected final VersionedRepository<E> repository;
     private final BaseMapper<Req, Res, E> mapper;
+    @PersistenceContext
+    protected EntityManager entityManager;
 
-    protected AbstractCrudService(JpaRepository<E, Long> repository, BaseMapper<Req, Res, E> mapper) {
+    protected AbstractCrudService(VersionedRepository<E> repository, BaseMapper<Req, Res, E> mapper) {
         this.repository = repository;
         this.mapper = mapper;
     }
 
+    @Timed(MetricsConfig.SERVICE_TIMER)
     public Res findById(Long id) {
         return convertToResponseDto(findByIdEntity(id));
     }
@@ -27,12 +43,50 @@ public abstract class AbstractCrudService<Req extends BaseRequestDto, Res extend
                 .orElseThrow(() -> new RuntimeException(getErrorMessage().formatted(id)));
     }
 
+    public long findVersion(Long id) {
+        return repository.findVersionById(id)
+                .orElseThrow(() -> new RuntimeException(getErrorMessage().formatted(id)));
+    }
+
+    @Timed(MetricsConfig.SERVICE_TIMER)
     public List<Res> findAll() {
         var entities = repository.findAll();
 
         return entities.stream().map(this::convertToResponseDto).toList();
     }
 
+    @Timed(MetricsConfig.SERVICE_TIMER)
+    public List<Res> findAll(String sort, String order) {
+        var entities = repository.findAll(toSort(sort, order));
+
+        return entities.stream().map(this::convertToResponseDto).toList();
+    }
+
+    public Sort toSort(String sort, String order) {
+        var field = sort == null ? getDefaultSortField() : sort;
+        var property = getSortFields().get(field);
+
+        if (property == null) {
+            throw new IllegalArgumentException("Сортировка по полю %s не поддерживается".formatted(field));
+        }
+
+        var direction = order == null ? Sort.Direction.ASC : Sort.Direction.fromOptionalString(order)
+                .orElseThrow(() -> new IllegalArgumentException("Неподдерживаемый порядок сортировки %s"
+                        .formatted(order)));
+        var result = Sort.by(direction, property);
+
+        return ID_PROPERTY.equals(property) ? result : result.and(Sort.by(direction, ID_PROPERTY));
+    }
+
+    protected Map<String, String> getSortFields() {
+        return Map.of(ID_PROPERTY, ID_PROPERTY);
+    }
+
+    protected String getDefaultSortField() {
+        return ID_PROPERTY;
+    }
+
+    @Timed(MetricsConfig.SERVICE_TIMER)
     @Transactional
     public Res create(Req dto) {
         var entity = convertToEntity(dto);
@@ -42,16 +96,58 @@ public abstract class AbstractCrudService<Req extends BaseRequestDto, Res extend
         return convertToResponseDto(savedData);
     }
 
+    @Transactional
+    public List<Res> createAll(List<Req> dtos) {
+        var created = new ArrayList<Res>(dtos.size());
+
+        for (var from = 0; from < dtos.size(); from += BULK_CHUNK_SIZE) {
+            var chunk = dtos.subList(from, Math.min(from + BULK_CHUNK_SIZE, dtos.size()));
+            var entities = chunk.stream().map(this::convertToEntity).toList();
+
+            repository.saveAll(entities);
+            entityManager.flush();
+            entities.forEach(entity -> created.add(convertToResponseDto(entity)));
+            entityManager.clear();
+        }
+
+        return created;
+    }
+
+    @Timed(MetricsConfig.SERVICE_TIMER)
+    @Transactional
     public Res update(Req dto) {
-        var id = dto.getId();
-        var existingEntity = repository.findById(dto.getId()).orElseThrow(()
-                -> new RuntimeException(getErrorMessage().formatted(id)));
+        return update(dto, null);
+    }
+
+    @Timed(MetricsConfig.SERVICE_TIMER)
+    @Transactional
+    public Res update(Req dto, Long expectedVersion) {
+        var existingEntity = findByIdEntity(dto.getId());
 
+        checkVersion(existingEntity, expectedVersion);
         updateEntity(dto, existingEntity);
+        flushVersioned(existingEntity);
 
         return convertToResponseDto(existingEntity);
     }
 
+    protected void checkVersion(E entity, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(entity.getVersion())) {
+            throw new PreconditionFailedException("Версия %s устарела, текущая версия %s"
+                    .formatted(expectedVersion, entity.getVersion()));
+        }
+    }
+
+    protected void flushVersioned(E entity) {
+        try {
+            entityManager.flush();
+        } catch (OptimisticLockException e) {
+            throw new ObjectOptimisticLockingFailureException(
+                    "Запись была изменена параллельным запросом, текущая версия %s".formatted(entity.getVersion()), e);
+        }
+    }
+
+    @Timed(MetricsConfig.SERVICE_TIMER)
     public void delete(Long id) {
         repository.deleteById(id);
     }
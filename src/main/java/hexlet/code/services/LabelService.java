@@ -9,9 +9,12 @@ import java.util.Set;
 
 public interface LabelService {
     LabelResponseDto findById(Long id);
+    long findVersion(Long id);
     List<LabelResponseDto> findAll();
+    List<LabelResponseDto> findAll(String sort, String order);
     LabelResponseDto create(LabelRequestDto requestDto);
     LabelResponseDto update(LabelRequestDto requestDto);
+    LabelResponseDto update(LabelRequestDto requestDto, Long expectedVersion);
     void delete(Long id);
     Set<Label> findEntities(Set<Long> ids);
 }
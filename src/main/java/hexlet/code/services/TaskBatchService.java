@@ -0,0 +1,12 @@
+package hexlet.code.services;
+
+import hexlet.code.dtos.requests.TaskRequestDto;
+import hexlet.code.dtos.response.TaskBatchResultDto;
+
+import java.util.List;
+
+public interface TaskBatchService {
+    List<TaskBatchResultDto> createBatch(List<TaskRequestDto> requestDtos);
+    List<TaskBatchResultDto> updateBatch(List<TaskRequestDto> requestDtos);
+    List<TaskBatchResultDto> deleteBatch(List<Long> ids);
+}
@@ -0,0 +1,12 @@
+package hexlet.code.services;
+
+import hexlet.code.dtos.TaskExportFormat;
+import hexlet.code.dtos.response.TaskImportResponseDto;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface TaskImportService {
+    TaskImportResponseDto importTasks(InputStream body, TaskExportFormat format, Long importId) throws IOException;
+    TaskImportResponseDto findById(Long id);
+}
@@ -1,16 +1,27 @@
 package hexlet.code.services;
 
+import hexlet.code.dtos.TaskExportFormat;
+import hexlet.code.dtos.TaskVersion;
 import hexlet.code.dtos.requests.FilterRequestDto;
 import hexlet.code.dtos.requests.TaskRequestDto;
+import hexlet.code.dtos.response.PageResponseDto;
 import hexlet.code.dtos.response.TaskResponseDto;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 public interface TaskService {
     TaskResponseDto findById(Long id);
+    long findVersion(Long id);
+    TaskVersion findVersions(Long id);
     List<TaskResponseDto> findAll();
     TaskResponseDto create(TaskRequestDto requestDto);
+    List<TaskResponseDto> createAll(List<TaskRequestDto> requestDtos);
     TaskResponseDto update(TaskRequestDto requestDto);
+    TaskResponseDto update(TaskRequestDto requestDto, Long expectedVersion);
     void delete(Long id);
     List<TaskResponseDto> findByFilter(FilterRequestDto filter);
+    PageResponseDto<TaskResponseDto> findPage(FilterRequestDto filter);
+    void export(FilterRequestDto filter, TaskExportFormat format, OutputStream out) throws IOException;
 }
@@ -8,9 +8,12 @@ import java.util.List;
 
 public interface TaskStatusService {
     TaskStatusResponseDto findById(Long id);
+    long findVersion(Long id);
     List<TaskStatusResponseDto> findAll();
+    List<TaskStatusResponseDto> findAll(String sort, String order);
     TaskStatusResponseDto create(TaskStatusRequestDto requestDto);
     TaskStatusResponseDto update(TaskStatusRequestDto requestDto);
+    TaskStatusResponseDto update(TaskStatusRequestDto requestDto, Long expectedVersion);
     void delete(Long id);
     TaskStatus findBySlug(String slug);
 }
@@ -8,9 +8,12 @@ import java.util.List;
 
 public interface UserService {
     UserResponseDto findById(Long id);
+    long findVersion(Long id);
     List<UserResponseDto> findAll();
+    List<UserResponseDto> findAll(String sort, String order);
     UserResponseDto create(UserRequestDto requestDto);
     UserResponseDto update(UserRequestDto requestDto);
+    UserResponseDto update(UserRequestDto requestDto, Long expectedVersion);
     void delete(Long id);
     User convertToEntity(UserRequestDto requestDto);
 }
@@ -12,12 +12,18 @@ import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Service;
 
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 @Service
 @Slf4j
 public class LabelServiceImpl extends AbstractCrudService<LabelRequestDto, LabelResponseDto, Label>
         implements CommandLineRunner, LabelService {
+    private static final Map<String, String> SORT_FIELDS = Map.of(
+            "id", "id",
+            "name", "name",
+            "createdAt", "createdAt");
+
     private final LabelRepository labelRepository;
 
     protected LabelServiceImpl(LabelRepository labelRepository, LabelMapper labelMapper) {
@@ -40,6 +46,11 @@ public class LabelServiceImpl extends AbstractCrudService<LabelRequestDto, Label
         }
     }
 
+    @Override
+    protected Map<String, String> getSortFields() {
+        return SORT_FIELDS;
+    }
+
     @Override
     public String getErrorMessage() {
         return "Метка с id %s не найдена";
@@ -51,6 +62,6 @@ public class LabelServiceImpl extends AbstractCrudService<LabelRequestDto, Label
             return new HashSet<>();
         }
 
-        return new HashSet<>(labelRepository.findAllById(ids));
+        return new HashSet<>(labelRepository.findByIdIn(ids));
     }
 }
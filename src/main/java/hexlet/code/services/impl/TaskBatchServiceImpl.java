@@ -0,0 +1,347 @@
+package hexlet.code.services.impl;
+
+import hexlet.code.dtos.requests.TaskRequestDto;
+import hexlet.code.dtos.response.TaskBatchResultDto;
+import hexlet.code.mappers.TaskMapper;
+import hexlet.code.models.Label;
+import hexlet.code.models.Task;
+import hexlet.code.models.TaskStatus;
+import hexlet.code.models.User;
+import hexlet.code.repositories.LabelRepository;
+import hexlet.code.repositories.TaskRepository;
+import hexlet.code.repositories.TaskStatusRepository;
+import hexlet.code.repositories.UserRepository;
+import hexlet.code.services.TaskBatchService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Slf4j
+public class TaskBatchServiceImpl implements TaskBatchService {
+    private final TaskRepository taskRepository;
+    private final TaskStatusRepository taskStatusRepository;
+    private final UserRepository userRepository;
+    private final LabelRepository labelRepository;
+    private final TaskMapper taskMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxSize;
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public TaskBatchServiceImpl(TaskRepository taskRepository, TaskStatusRepository taskStatusRepository,
+                                UserRepository userRepository, LabelRepository labelRepository,
+                                TaskMapper taskMapper, PlatformTransactionManager transactionManager,
+                                @Value("${app.tasks.batch.chunk-size:500}") int chunkSize,
+                                @Value("${app.tasks.batch.max-size:10000}") int maxSize) {
+        this.taskRepository = taskRepository;
+        this.taskStatusRepository = taskStatusRepository;
+        this.userRepository = userRepository;
+        this.labelRepository = labelRepository;
+        this.taskMapper = taskMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public List<TaskBatchResultDto> createBatch(List<TaskRequestDto> requestDtos) {
+        checkSize(requestDtos);
+
+        var references = resolveReferences(requestDtos);
+
+        return processInChunks(requestDtos, dto -> null, (offset, chunk) -> createChunk(chunk, offset, references));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<TaskBatchResultDto> createInCurrentTransaction(List<TaskRequestDto> requestDtos, int offset) {
+        return createChunk(requestDtos, offset, resolveReferences(requestDtos));
+    }
+
+    private List<TaskBatchResultDto> createChunk(List<TaskRequestDto> chunk, int offset, References references) {
+        var results = new ArrayList<TaskBatchResultDto>(chunk.size());
+        var created = new ArrayList<Task>(chunk.size());
+        var createdIndexes = new ArrayList<Integer>(chunk.size());
+
+        for (var i = 0; i < chunk.size(); i++) {
+            var dto = chunk.get(i);
+            var error = dto == null ? "Пустой элемент пакета" : validateCreate(dto, references);
+
+            if (error != null) {
+                results.add(failure(offset + i, null, error));
+                continue;
+            }
+
+            var task = taskMapper.toBaseEntity(dto);
+
+            applyReferences(dto, task, references);
+            entityManager.persist(task);
+            created.add(task);
+            createdIndexes.add(offset + i);
+        }
+
+        entityManager.flush();
+
+        for (var i = 0; i < created.size(); i++) {
+            results.add(success(createdIndexes.get(i), created.get(i)));
+        }
+
+        results.sort(Comparator.comparingInt(TaskBatchResultDto::getIndex));
+
+        return results;
+    }
+
+    @Override
+    public List<TaskBatchResultDto> updateBatch(List<TaskRequestDto> requestDtos) {
+        checkSize(requestDtos);
+
+        var references = resolveReferences(requestDtos);
+
+        return processInChunks(requestDtos, dto -> dto == null ? null : dto.getId(), (offset, chunk) -> {
+            var tasks = findTasks(chunk.stream().filter(Objects::nonNull).map(TaskRequestDto::getId).toList());
+            var results = new ArrayList<TaskBatchResultDto>(chunk.size());
+            var updated = new ArrayList<Task>(chunk.size());
+            var updatedIndexes = new ArrayList<Integer>(chunk.size());
+
+            for (var i = 0; i < chunk.size(); i++) {
+                var dto = chunk.get(i);
+                var error = dto == null ? "Пустой элемент пакета" : validateUpdate(dto, tasks, references);
+
+                if (error != null) {
+                    results.add(failure(offset + i, dto == null ? null : dto.getId(), error));
+                    continue;
+                }
+
+                var task = tasks.get(dto.getId());
+
+                taskMapper.updateBaseEntity(dto, task);
+                applyReferences(dto, task, references);
+                updated.add(task);
+                updatedIndexes.add(offset + i);
+            }
+
+            entityManager.flush();
+
+            for (var i = 0; i < updated.size(); i++) {
+                results.add(success(updatedIndexes.get(i), updated.get(i)));
+            }
+
+            return results;
+        });
+    }
+
+    @Override
+    public List<TaskBatchResultDto> deleteBatch(List<Long> ids) {
+        checkSize(ids);
+
+        return processInChunks(ids, Function.identity(), (offset, chunk) -> {
+            var tasks = findTasks(chunk);
+            var results = new ArrayList<TaskBatchResultDto>(chunk.size());
+
+            for (var i = 0; i < chunk.size(); i++) {
+                var id = chunk.get(i);
+                var task = id == null ? null : tasks.remove(id);
+
+                if (task == null) {
+                    results.add(failure(offset + i, id, missingTask(id)));
+                    continue;
+                }
+
+                entityManager.remove(task);
+                results.add(TaskBatchResultDto.builder().index(offset + i).id(id).build());
+            }
+
+            entityManager.flush();
+
+            return results;
+        });
+    }
+
+    private <T> List<TaskBatchResultDto> processInChunks(List<T> items, Function<T, Long> idOf,
+                                                         BiFunction<Integer, List<T>, List<TaskBatchResultDto>> handler) {
+        var results = new ArrayList<TaskBatchResultDto>(items.size());
+
+        for (var from = 0; from < items.size(); from += chunkSize) {
+            var offset = from;
+            var chunk = items.subList(from, Math.min(from + chunkSize, items.size()));
+
+            try {
+                results.addAll(transactionTemplate.execute(status -> {
+                    var chunkResults = handler.apply(offset, chunk);
+
+                    entityManager.clear();
+                    chunkResults.sort(Comparator.comparingInt(TaskBatchResultDto::getIndex));
+
+                    return chunkResults;
+                }));
+            } catch (RuntimeException e) {
+                log.warn("Batch chunk {}-{} rolled back: {}", offset, offset + chunk.size() - 1, e.getMessage());
+
+                entityManager.clear();
+
+                for (var i = 0; i < chunk.size(); i++) {
+                    var item = chunk.get(i);
+
+                    results.add(failure(offset + i, item == null ? null : idOf.apply(item),
+                            "Пакет не сохранён: " + e.getMessage()));
+                }
+            }
+        }
+
+        return results;
+    }
+
+    private void checkSize(List<?> items) {
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("Пакет не должен быть пустым");
+        }
+
+        if (items.size() > maxSize) {
+            throw new IllegalArgumentException("Пакет не должен содержать более %d элементов".formatted(maxSize));
+        }
+    }
+
+    private References resolveReferences(List<TaskRequestDto> dtos) {
+        var present = dtos.stream().filter(Objects::nonNull).toList();
+        var slugs = present.stream()
+                .map(TaskRequestDto::getSlug)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        var assigneeIds = present.stream()
+                .map(TaskRequestDto::getAssigneeId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        var labelIds = present.stream()
+                .map(TaskRequestDto::getTaskLabelIds)
+                .filter(Objects::nonNull)
+                .flatMap(Set::stream)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        return new References(
+                slugs.isEmpty() ? Map.of() : taskStatusRepository.findBySlugIn(slugs).stream()
+                        .collect(Collectors.toMap(TaskStatus::getSlug, TaskStatus::getId)),
+                assigneeIds.isEmpty() ? Set.of() : new HashSet<>(userRepository.findIdsByIdIn(assigneeIds)),
+                labelIds.isEmpty() ? Set.of() : labelRepository.findByIdIn(labelIds).stream()
+                        .map(Label::getId)
+                        .collect(Collectors.toSet())
+        );
+    }
+
+    private Map<Long, Task> findTasks(List<Long> ids) {
+        var existing = ids.stream().filter(Objects::nonNull).collect(Collectors.toSet());
+
+        if (existing.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        return taskRepository.findByIdIn(existing).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+    }
+
+    private String validateCreate(TaskRequestDto dto, References references) {
+        if (dto.getTitle() == null || dto.getTitle().isBlank()) {
+            return "Поле title должно быть заполненным";
+        }
+
+        if (dto.getSlug() == null) {
+            return "Поле status должно быть заполненным";
+        }
+
+        return validateReferences(dto, references);
+    }
+
+    private String validateUpdate(TaskRequestDto dto, Map<Long, Task> tasks, References references) {
+        if (dto.getId() == null) {
+            return "Поле id должно быть заполненным";
+        }
+
+        if (!tasks.containsKey(dto.getId())) {
+            return missingTask(dto.getId());
+        }
+
+        if (dto.getTitle() != null && dto.getTitle().isBlank()) {
+            return "Поле title должно быть заполненным";
+        }
+
+        return validateReferences(dto, references);
+    }
+
+    private String validateReferences(TaskRequestDto dto, References references) {
+        if (dto.getSlug() != null && !references.statusIds().containsKey(dto.getSlug())) {
+            return "Статус %s не найден".formatted(dto.getSlug());
+        }
+
+        if (dto.getAssigneeId() != null && !references.assigneeIds().contains(dto.getAssigneeId())) {
+            return "Пользователь с id %s не найден".formatted(dto.getAssigneeId());
+        }
+
+        if (dto.getTaskLabelIds() != null) {
+            for (var labelId : dto.getTaskLabelIds()) {
+                if (!references.labelIds().contains(labelId)) {
+                    return "Метка с id %s не найдена".formatted(labelId);
+                }
+            }
+        }
+
+        return null;
+    }
+
+    private void applyReferences(TaskRequestDto dto, Task task, References references) {
+        if (dto.getSlug() != null) {
+            task.setTaskStatus(entityManager.getReference(TaskStatus.class, references.statusIds().get(dto.getSlug())));
+        }
+
+        if (dto.getAssigneeId() != null) {
+            task.setAssignee(entityManager.getReference(User.class, dto.getAssigneeId()));
+        }
+
+        if (dto.getTaskLabelIds() != null) {
+            task.setLabels(dto.getTaskLabelIds().stream()
+                    .map(labelId -> entityManager.getReference(Label.class, labelId))
+                    .collect(Collectors.toCollection(HashSet::new)));
+        }
+    }
+
+    private String missingTask(Long id) {
+        return "Задача с id %s не найдена".formatted(id);
+    }
+
+    private TaskBatchResultDto success(int index, Task task) {
+        return TaskBatchResultDto.builder()
+                .index(index)
+                .id(task.getId())
+                .task(taskMapper.toResponse(task))
+                .build();
+    }
+
+    private TaskBatchResultDto failure(int index, Long id, String error) {
+        return TaskBatchResultDto.builder()
+                .index(index)
+                .id(id)
+                .error(error)
+                .build();
+    }
+
+    private record References(Map<String, Long> statusIds, Set<Long> assigneeIds, Set<Long> labelIds) {
+    }
+}
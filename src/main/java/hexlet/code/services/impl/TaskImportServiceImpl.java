@@ -0,0 +1,197 @@
+package hexlet.code.services.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import hexlet.code.components.TaskImportReader;
+import hexlet.code.dtos.TaskExportFormat;
+import hexlet.code.dtos.requests.TaskRequestDto;
+import hexlet.code.dtos.response.TaskBatchResultDto;
+import hexlet.code.dtos.response.TaskImportErrorDto;
+import hexlet.code.dtos.response.TaskImportResponseDto;
+import hexlet.code.models.TaskImport;
+import hexlet.code.repositories.TaskImportRepository;
+import hexlet.code.services.TaskImportService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@Slf4j
+public class TaskImportServiceImpl implements TaskImportService {
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private final TaskImportRepository taskImportRepository;
+    private final TaskBatchServiceImpl taskBatchService;
+    private final ObjectReader taskReader;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public TaskImportServiceImpl(TaskImportRepository taskImportRepository, TaskBatchServiceImpl taskBatchService,
+                                 ObjectMapper objectMapper, PlatformTransactionManager transactionManager,
+                                 @Value("${app.tasks.import.batch-size:500}") int batchSize) {
+        this.taskImportRepository = taskImportRepository;
+        this.taskBatchService = taskBatchService;
+        this.taskReader = objectMapper.readerFor(TaskRequestDto.class);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public TaskImportResponseDto importTasks(InputStream body, TaskExportFormat format, Long importId)
+            throws IOException {
+        var taskImport = importId == null ? start(format) : resume(importId, format);
+
+        if (taskImport.getStatus() == TaskImport.Status.COMPLETED) {
+            return toResponse(taskImport, List.of());
+        }
+
+        var errors = new ArrayList<TaskImportErrorDto>();
+        var rows = new ArrayList<TaskImportReader.Row>(batchSize);
+
+        try {
+            var reader = new TaskImportReader(format, body, taskReader);
+
+            reader.skipTo(taskImport.getLastCommittedLine());
+
+            TaskImportReader.Row row;
+
+            while ((row = reader.next()) != null) {
+                rows.add(row);
+
+                if (rows.size() == batchSize) {
+                    commit(taskImport, rows, row.line(), false, errors);
+                    rows.clear();
+                }
+            }
+
+            commit(taskImport, rows, Math.max(reader.getLine(), taskImport.getLastCommittedLine()), true, errors);
+        } catch (OptimisticLockingFailureException e) {
+            throw e;
+        } catch (IOException | RuntimeException e) {
+            log.warn("Import {} stopped at line {}: {}", taskImport.getId(), taskImport.getLastCommittedLine(),
+                    e.getMessage());
+
+            taskImport.setStatus(TaskImport.Status.FAILED);
+            markFailed(taskImport.getId());
+            errors.add(error(taskImport.getLastCommittedLine() + 1, "Импорт остановлен: " + e.getMessage()));
+        }
+
+        return toResponse(taskImport, errors);
+    }
+
+    @Override
+    public TaskImportResponseDto findById(Long id) {
+        return toResponse(findImport(id), List.of());
+    }
+
+    private TaskImport start(TaskExportFormat format) {
+        var taskImport = new TaskImport();
+
+        taskImport.setFormat(format.getExtension());
+        taskImport.setStatus(TaskImport.Status.IN_PROGRESS);
+
+        return taskImportRepository.save(taskImport);
+    }
+
+    private TaskImport resume(Long importId, TaskExportFormat format) {
+        var taskImport = findImport(importId);
+
+        if (!taskImport.getFormat().equals(format.getExtension())) {
+            throw new IllegalArgumentException("Импорт %s был начат в формате %s"
+                    .formatted(importId, taskImport.getFormat()));
+        }
+
+        if (taskImport.getStatus() == TaskImport.Status.FAILED) {
+            taskImport.setStatus(TaskImport.Status.IN_PROGRESS);
+            taskImport = taskImportRepository.save(taskImport);
+        }
+
+        return taskImport;
+    }
+
+    private TaskImport findImport(Long id) {
+        return taskImportRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Импорт с id %s не найден".formatted(id)));
+    }
+
+    private void commit(TaskImport progress, List<TaskImportReader.Row> rows, long lastLine, boolean completed,
+                        List<TaskImportErrorDto> errors) {
+        var parsed = rows.stream().filter(row -> row.task() != null).toList();
+        var batchErrors = new ArrayList<TaskImportErrorDto>();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            var taskImport = taskImportRepository.findForUpdateById(progress.getId())
+                    .orElseThrow(() -> new RuntimeException("Импорт с id %s не найден".formatted(progress.getId())));
+
+            if (taskImport.getStatus() != TaskImport.Status.IN_PROGRESS
+                    || taskImport.getLastCommittedLine() != progress.getLastCommittedLine()) {
+                throw new OptimisticLockingFailureException(("Импорт %s уже продолжен другим запросом: "
+                        + "сохранено строк %d, ожидалось %d").formatted(progress.getId(),
+                        taskImport.getLastCommittedLine(), progress.getLastCommittedLine()));
+            }
+
+            var tasks = parsed.stream().map(TaskImportReader.Row::task).toList();
+            var results = tasks.isEmpty() ? List.<TaskBatchResultDto>of()
+                    : taskBatchService.createInCurrentTransaction(tasks, 0);
+
+            rows.stream()
+                    .filter(row -> row.error() != null)
+                    .forEach(row -> batchErrors.add(error(row.line(), row.error())));
+            results.stream()
+                    .filter(result -> result.getError() != null)
+                    .forEach(result -> batchErrors.add(error(parsed.get(result.getIndex()).line(), result.getError())));
+
+            taskImport.setLastCommittedLine(lastLine);
+            taskImport.setImportedCount(taskImport.getImportedCount() + rows.size() - batchErrors.size());
+            taskImport.setFailedCount(taskImport.getFailedCount() + batchErrors.size());
+
+            if (completed) {
+                taskImport.setStatus(TaskImport.Status.COMPLETED);
+            }
+
+            entityManager.flush();
+            entityManager.clear();
+
+            progress.setLastCommittedLine(taskImport.getLastCommittedLine());
+            progress.setImportedCount(taskImport.getImportedCount());
+            progress.setFailedCount(taskImport.getFailedCount());
+            progress.setStatus(taskImport.getStatus());
+        });
+
+        batchErrors.stream()
+                .limit(Math.max(MAX_REPORTED_ERRORS - errors.size(), 0))
+                .forEach(errors::add);
+    }
+
+    private void markFailed(Long id) {
+        transactionTemplate.executeWithoutResult(status -> findImport(id).setStatus(TaskImport.Status.FAILED));
+    }
+
+    private TaskImportErrorDto error(long line, String message) {
+        return TaskImportErrorDto.builder().line(line).error(message).build();
+    }
+
+    private TaskImportResponseDto toResponse(TaskImport taskImport, List<TaskImportErrorDto> errors) {
+        return TaskImportResponseDto.builder()
+                .id(taskImport.getId())
+                .format(taskImport.getFormat())
+                .status(taskImport.getStatus().name())
+                .lastCommittedLine(taskImport.getLastCommittedLine())
+                .importedCount(taskImport.getImportedCount())
+                .failedCount(taskImport.getFailedCount())
+                .errors(errors)
+                .build();
+    }
+}
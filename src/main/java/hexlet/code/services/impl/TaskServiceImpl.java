@@ -1,26 +1,82 @@
 package hexlet.code.services.impl;
 
+import hexlet.code.components.TaskExportWriter;
+import hexlet.code.components.TaskSearchIndex;
+import hexlet.code.configurations.MetricsConfig;
+import hexlet.code.dtos.TaskCursor;
+import hexlet.code.dtos.TaskExportFormat;
+import hexlet.code.dtos.TaskSearchQuery;
+import hexlet.code.dtos.TaskVersion;
+import hexlet.code.dtos.TaskView;
 import hexlet.code.dtos.requests.FilterRequestDto;
 import hexlet.code.dtos.requests.TaskRequestDto;
+import hexlet.code.dtos.response.PageResponseDto;
 import hexlet.code.dtos.response.TaskResponseDto;
 import hexlet.code.mappers.TaskMapper;
 import hexlet.code.models.Task;
+import hexlet.code.models.TaskStatus;
 import hexlet.code.repositories.TaskRepository;
+import hexlet.code.repositories.TaskStatusRepository;
 import hexlet.code.services.AbstractCrudService;
 import hexlet.code.services.TaskService;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 @Service
 public class TaskServiceImpl extends AbstractCrudService<TaskRequestDto, TaskResponseDto, Task>
     implements TaskService {
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int EXPORT_CHUNK_SIZE = 500;
+    private static final int SEARCH_CHUNK_SIZE = 500;
+    private static final int LABEL_CHUNK_SIZE = 500;
+    private static final int MAX_FILTER_VALUES = 100;
+    private static final String KEYSET_SORT_FIELD = "createdAt";
+    private static final Map<String, String> SORT_FIELDS = Map.of(
+            "id", "id",
+            "title", "name",
+            "index", "index",
+            "createdAt", "createdAt");
+
     private final TaskRepository taskRepository;
+    private final TaskMapper taskMapper;
+    private final TaskExportWriter exportWriter;
+    private final TaskSearchIndex searchIndex;
+    private final TaskStatusRepository taskStatusRepository;
 
     public TaskServiceImpl(TaskRepository taskRepository, TaskStatusServiceImpl taskStatusService,
-                           UserServiceImpl userService, LabelServiceImpl labelService, TaskMapper taskMapper) {
+                           UserServiceImpl userService, LabelServiceImpl labelService, TaskMapper taskMapper,
+                           TaskExportWriter exportWriter, TaskSearchIndex searchIndex,
+                           TaskStatusRepository taskStatusRepository) {
         super(taskRepository, taskMapper);
         this.taskRepository = taskRepository;
+        this.taskMapper = taskMapper;
+        this.exportWriter = exportWriter;
+        this.searchIndex = searchIndex;
+        this.taskStatusRepository = taskStatusRepository;
+    }
+
+    @Override
+    protected Map<String, String> getSortFields() {
+        return SORT_FIELDS;
+    }
+
+    @Override
+    protected String getDefaultSortField() {
+        return KEYSET_SORT_FIELD;
     }
 
     @Override
@@ -29,11 +85,219 @@ public class TaskServiceImpl extends AbstractCrudService<TaskRequestDto, TaskRes
     }
 
     @Override
+    public TaskVersion findVersions(Long id) {
+        return taskRepository.findVersionsById(id)
+                .orElseThrow(() -> new RuntimeException(getErrorMessage().formatted(id)));
+    }
+
+    @Override
+    @Timed(MetricsConfig.SERVICE_TIMER)
+    @Transactional(readOnly = true)
     public List<TaskResponseDto> findByFilter(FilterRequestDto filter) {
-        var tasks = taskRepository
-                .findByFilter(filter.getTitleCont(), filter.getAssigneeId(), filter.getSlug(), filter.getLabelId());
+        checkFilter(filter);
+
+        var tasks = hasSearchQuery(filter) ? searchAll(filter)
+                : taskRepository.findByFilter(filter, toSort(filter.getSort(), filter.getOrder()));
+
+        return convertToResponseDtos(tasks);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponseDto<TaskResponseDto> findPage(FilterRequestDto filter) {
+        checkFilter(filter);
+
+        var start = filter.getStart() == null ? 0 : Math.max(filter.getStart(), 0);
+        var size = filter.getEnd() == null ? DEFAULT_PAGE_SIZE : filter.getEnd() - start;
+        var limit = Math.clamp(size, 0, MAX_PAGE_SIZE);
+
+        if (hasSearchQuery(filter)) {
+            return searchPage(filter, start, limit);
+        }
+
+        var sort = toSort(filter.getSort(), filter.getOrder());
+        var keyset = filter.getSort() == null || KEYSET_SORT_FIELD.equals(filter.getSort());
 
-        return tasks.stream().map(this::convertToResponseDto).toList();
+        if (filter.getCursor() != null && !keyset) {
+            throw new IllegalArgumentException("Курсор поддерживается только при сортировке по %s"
+                    .formatted(KEYSET_SORT_FIELD));
+        }
+
+        var after = filter.getCursor() == null ? null : TaskCursor.decode(filter.getCursor());
+
+        var tasks = limit == 0 ? List.<TaskView>of()
+                : taskRepository.findByFilter(filter, sort, after, after == null ? start : 0, limit);
+        var nextCursor = keyset && limit > 0 && tasks.size() == limit
+                ? new TaskCursor(tasks.getLast().createdAt(), tasks.getLast().id()).encode()
+                : null;
+        var totalCount = Boolean.FALSE.equals(filter.getCount()) ? null : taskRepository.countByFilter(filter);
+
+        return PageResponseDto.<TaskResponseDto>builder()
+                .content(convertToResponseDtos(tasks))
+                .totalCount(totalCount)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    private PageResponseDto<TaskResponseDto> searchPage(FilterRequestDto filter, int start, int limit) {
+        if (filter.getCursor() != null) {
+            throw new IllegalArgumentException("Курсор не поддерживается вместе с параметром q");
+        }
+
+        var sort = filter.getSort() == null ? null : toSort(filter.getSort(), filter.getOrder());
+        var hits = searchIndex.search(toSearchQuery(filter), sort, start, limit);
+
+        return PageResponseDto.<TaskResponseDto>builder()
+                .content(convertToResponseDtos(findHits(filter, hits.ids())))
+                .totalCount(Boolean.FALSE.equals(filter.getCount()) ? null : hits.totalHits())
+                .build();
+    }
+
+    private void checkFilter(FilterRequestDto filter) {
+        var labelMatch = filter.getLabelMatch();
+
+        if (labelMatch != null && !FilterRequestDto.LABEL_MATCH_ANY.equalsIgnoreCase(labelMatch)
+                && !FilterRequestDto.LABEL_MATCH_ALL.equalsIgnoreCase(labelMatch)) {
+            throw new IllegalArgumentException("Неподдерживаемое значение labelMatch %s".formatted(labelMatch));
+        }
+
+        checkSize("status", filter.getSlug());
+        checkSize("labelId", filter.getLabelId());
+        checkSize("assigneeId", filter.getAssigneeId());
     }
 
+    private void checkSize(String name, List<?> values) {
+        if (values != null && values.size() > MAX_FILTER_VALUES) {
+            throw new IllegalArgumentException("Фильтр %s принимает не более %d значений"
+                    .formatted(name, MAX_FILTER_VALUES));
+        }
+    }
+
+    private boolean hasSearchQuery(FilterRequestDto filter) {
+        return filter.getQ() != null && !filter.getQ().isBlank();
+    }
+
+    private List<TaskView> searchAll(FilterRequestDto filter) {
+        var query = toSearchQuery(filter);
+        var sort = filter.getSort() == null ? null : toSort(filter.getSort(), filter.getOrder());
+        var tasks = new ArrayList<TaskView>();
+        TaskSearchIndex.Hits hits = null;
+
+        do {
+            hits = searchIndex.searchAfter(query, sort, hits == null ? null : hits.last(), SEARCH_CHUNK_SIZE);
+            tasks.addAll(findHits(filter, hits.ids()));
+        } while (hits.ids().size() == SEARCH_CHUNK_SIZE);
+
+        return tasks;
+    }
+
+    private List<TaskView> findHits(FilterRequestDto filter, List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        var ranks = new HashMap<Long, Integer>(ids.size());
+
+        for (var i = 0; i < ids.size(); i++) {
+            ranks.put(ids.get(i), i);
+        }
+
+        return taskRepository.findByFilter(filter, null, ids).stream()
+                .sorted(Comparator.comparingInt(task -> ranks.get(task.id())))
+                .toList();
+    }
+
+    private TaskSearchQuery toSearchQuery(FilterRequestDto filter) {
+        var slugs = values(filter.getSlug());
+        var statusIds = slugs == null ? null : taskStatusRepository.findBySlugIn(slugs).stream()
+                .map(TaskStatus::getId)
+                .toList();
+
+        return new TaskSearchQuery(filter.getQ(), filter.getTitleCont(), statusIds, values(filter.getAssigneeId()),
+                values(filter.getLabelId()), FilterRequestDto.LABEL_MATCH_ALL.equalsIgnoreCase(filter.getLabelMatch()),
+                filter.getCreatedAtFrom(), filter.getCreatedAtTo(), filter.getIndexFrom(), filter.getIndexTo());
+    }
+
+    private static <T> List<T> values(List<T> values) {
+        if (values == null) {
+            return null;
+        }
+
+        var present = values.stream().filter(Objects::nonNull).distinct().toList();
+
+        return present.isEmpty() ? null : present;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void export(FilterRequestDto filter, TaskExportFormat format, OutputStream out) throws IOException {
+        checkFilter(filter);
+
+        var sort = toSort(filter.getSort(), filter.getOrder());
+
+        exportWriter.writeHeader(format, out);
+
+        if (hasSearchQuery(filter)) {
+            exportSearch(filter, sort, format, out);
+
+            return;
+        }
+
+        try (var tasks = taskRepository.streamByFilter(filter, sort, EXPORT_CHUNK_SIZE)) {
+            var iterator = tasks.iterator();
+            var chunk = new ArrayList<TaskView>(EXPORT_CHUNK_SIZE);
+
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+
+                if (chunk.size() == EXPORT_CHUNK_SIZE) {
+                    writeChunk(chunk, format, out);
+                }
+            }
+
+            writeChunk(chunk, format, out);
+        }
+    }
+
+    private void exportSearch(FilterRequestDto filter, Sort sort, TaskExportFormat format, OutputStream out)
+            throws IOException {
+        var query = toSearchQuery(filter);
+        TaskSearchIndex.Hits hits = null;
+
+        do {
+            hits = searchIndex.searchAfter(query, sort, hits == null ? null : hits.last(), EXPORT_CHUNK_SIZE);
+            writeChunk(new ArrayList<>(findHits(filter, hits.ids())), format, out);
+        } while (hits.ids().size() == EXPORT_CHUNK_SIZE);
+    }
+
+    private void writeChunk(List<TaskView> chunk, TaskExportFormat format, OutputStream out) throws IOException {
+        for (var task : convertToResponseDtos(chunk)) {
+            exportWriter.writeRow(format, task, out);
+        }
+
+        out.flush();
+        chunk.clear();
+        entityManager.clear();
+    }
+
+    private List<TaskResponseDto> convertToResponseDtos(List<TaskView> tasks) {
+        if (tasks.isEmpty()) {
+            return List.of();
+        }
+
+        var taskIds = tasks.stream().map(TaskView::id).toList();
+        var labelIdsByTask = new HashMap<Long, Set<Long>>();
+
+        for (var from = 0; from < taskIds.size(); from += LABEL_CHUNK_SIZE) {
+            var chunk = taskIds.subList(from, Math.min(from + LABEL_CHUNK_SIZE, taskIds.size()));
+
+            for (var taskLabel : taskRepository.findLabelIdsByTaskIds(chunk)) {
+                labelIdsByTask.computeIfAbsent(taskLabel.taskId(), id -> new HashSet<>()).add(taskLabel.labelId());
+            }
+        }
+
+        return tasks.stream()
+                .map(task -> taskMapper.toResponse(task, labelIdsByTask.getOrDefault(task.id(), new HashSet<>())))
+                .toList();
+    }
 }
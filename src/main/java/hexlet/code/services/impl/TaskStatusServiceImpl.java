@@ -11,10 +11,18 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Service;
 
+import java.util.Map;
+
 @Service
 @Slf4j
 public class TaskStatusServiceImpl extends AbstractCrudService<TaskStatusRequestDto, TaskStatusResponseDto, TaskStatus>
         implements CommandLineRunner, TaskStatusService {
+    private static final Map<String, String> SORT_FIELDS = Map.of(
+            "id", "id",
+            "name", "name",
+            "slug", "slug",
+            "createdAt", "createdAt");
+
     private final TaskStatusRepository taskStatusRepository;
 
     public TaskStatusServiceImpl(TaskStatusRepository taskStatusRepository, TaskStatusMapper taskStatusMapper) {
@@ -43,6 +51,11 @@ public class TaskStatusServiceImpl extends AbstractCrudService<TaskStatusRequest
         }
     }
 
+    @Override
+    protected Map<String, String> getSortFields() {
+        return SORT_FIELDS;
+    }
+
     @Override
     public String getErrorMessage() {
         return "Статус с id %s не найден";
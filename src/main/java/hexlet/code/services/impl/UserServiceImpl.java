@@ -1,5 +1,9 @@
 package hexlet.code.services.impl;
 
+import hexlet.code.components.JwtPrincipalCache;
+import hexlet.code.components.TokenVersionCache;
+import hexlet.code.components.VerifiedCredentialCache;
+import hexlet.code.configurations.MetricsConfig;
 import hexlet.code.dtos.requests.UserRequestDto;
 import hexlet.code.dtos.response.UserResponseDto;
 import hexlet.code.mappers.UserMapper;
@@ -7,28 +11,102 @@ import hexlet.code.models.User;
 import hexlet.code.repositories.UserRepository;
 import hexlet.code.services.AbstractCrudService;
 import hexlet.code.services.UserService;
+import io.micrometer.core.annotation.Timed;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
 
 @Service
 @Slf4j
 public class UserServiceImpl extends AbstractCrudService<UserRequestDto, UserResponseDto, User>
-        implements CommandLineRunner, UserDetailsService, UserService {
+        implements CommandLineRunner, UserDetailsService, UserDetailsPasswordService, UserService {
+    private static final Map<String, String> SORT_FIELDS = Map.of(
+            "id", "id",
+            "email", "email",
+            "firstName", "firstName",
+            "lastName", "lastName",
+            "createdAt", "createdAt");
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final JwtPrincipalCache principalCache;
+    private final TokenVersionCache tokenVersions;
+    private final VerifiedCredentialCache credentialCache;
 
-    public UserServiceImpl(UserRepository userRepository, PasswordEncoder passwordEncoder, UserMapper userMapper) {
+    public UserServiceImpl(UserRepository userRepository, PasswordEncoder passwordEncoder, UserMapper userMapper,
+                           JwtPrincipalCache principalCache, TokenVersionCache tokenVersions,
+                           VerifiedCredentialCache credentialCache) {
         super(userRepository, userMapper);
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.principalCache = principalCache;
+        this.tokenVersions = tokenVersions;
+        this.credentialCache = credentialCache;
     }
 
-    public UserResponseDto findByEmailAndPassword(String email, String password) {
+    @Override
+    @Timed(MetricsConfig.SERVICE_TIMER)
+    @Transactional
+    public UserResponseDto update(UserRequestDto dto, Long expectedVersion) {
+        var user = findByIdEntity(dto.getId());
+        var email = user.getEmail();
+        var credentialsChanged = dto.getPassword() != null
+                || dto.getRole() != null && !dto.getRole().equals(user.getRole());
+
+        checkVersion(user, expectedVersion);
+        updateEntity(dto, user);
+
+        if (credentialsChanged) {
+            user.setTokenVersion(user.getTokenVersion() + 1);
+        }
+
+        flushVersioned(user);
+
+        var userId = user.getId();
+        var tokenVersion = user.getTokenVersion();
+
+        afterCommit(() -> {
+            if (credentialsChanged) {
+                tokenVersions.update(userId, tokenVersion);
+            }
+
+            principalCache.evict(email);
+            credentialCache.evict(email);
+        });
+
+        return convertToResponseDto(user);
+    }
+
+    @Override
+    @Timed(MetricsConfig.SERVICE_TIMER)
+    @Transactional
+    public void delete(Long id) {
+        var email = userRepository.findById(id).map(User::getEmail).orElse(null);
+
+        super.delete(id);
+        userRepository.flush();
+
+        afterCommit(() -> {
+            if (email != null) {
+                principalCache.evict(email);
+                credentialCache.evict(email);
+            }
+
+            tokenVersions.evict(id);
+        });
+    }
+
+    public User authenticate(String email, String password) {
         var user = userRepository.findUserByEmail(email)
                 .orElseThrow(() -> new RuntimeException("Пользователь %s не найден".formatted(email)));
 
@@ -36,7 +114,39 @@ public class UserServiceImpl extends AbstractCrudService<UserRequestDto, UserRes
             throw new RuntimeException("Неверный пароль для пользователя %s".formatted(email));
         }
 
-        return convertToResponseDto(user);
+        if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+            user.setPassword(passwordEncoder.encode(password));
+            userRepository.save(user);
+
+            log.info("Хэш пароля пользователя {} обновлён", email);
+        }
+
+        return user;
+    }
+
+    @Timed(MetricsConfig.SERVICE_TIMER)
+    public UserResponseDto findByEmailAndPassword(String email, String password) {
+        return convertToResponseDto(authenticate(email, password));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    @Override
+    protected Map<String, String> getSortFields() {
+        return SORT_FIELDS;
     }
 
     @Override
@@ -59,6 +169,7 @@ public class UserServiceImpl extends AbstractCrudService<UserRequestDto, UserRes
     }
 
     @Override
+    @Timed(MetricsConfig.SERVICE_TIMER)
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
         var user = userRepository.findUserByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found"));
@@ -69,4 +180,17 @@ public class UserServiceImpl extends AbstractCrudService<UserRequestDto, UserRes
                 .roles(user.getRole().replace("ROLE_", ""))
                 .build();
     }
+
+    @Override
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        var user = userRepository.findUserByEmail(userDetails.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+
+        user.setPassword(newPassword);
+        userRepository.save(user);
+
+        return org.springframework.security.core.userdetails.User.withUserDetails(userDetails)
+                .password(newPassword)
+                .build();
+    }
 }
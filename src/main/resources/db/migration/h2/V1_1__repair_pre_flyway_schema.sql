@@ -0,0 +1,13 @@
+ALTER TABLE users ADD COLUMN IF NOT EXISTS token_version INTEGER DEFAULT 0 NOT NULL;
+
+CREATE TABLE IF NOT EXISTS task_imports (
+    id BIGINT NOT NULL,
+    format VARCHAR(16) NOT NULL,
+    status VARCHAR(16) NOT NULL,
+    last_committed_line BIGINT NOT NULL,
+    imported_count BIGINT NOT NULL,
+    failed_count BIGINT NOT NULL,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6),
+    CONSTRAINT pk_task_imports PRIMARY KEY (id)
+);
@@ -0,0 +1,6 @@
+CREATE INDEX idx_tasks_name_id ON tasks (name, id);
+CREATE INDEX idx_users_first_name_id ON users (first_name, id);
+CREATE INDEX idx_users_last_name_id ON users (last_name, id);
+CREATE INDEX idx_users_created_at_id ON users (created_at, id);
+CREATE INDEX idx_labels_created_at_id ON labels (created_at, id);
+CREATE INDEX idx_task_statuses_created_at_id ON task_statuses (created_at, id);
@@ -0,0 +1,11 @@
+CREATE SEQUENCE IF NOT EXISTS users_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS task_statuses_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS labels_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS tasks_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS task_imports_seq START WITH 1 INCREMENT BY 50;
+
+ALTER SEQUENCE users_seq RESTART WITH (SELECT COALESCE(MAX(id) + 50, 1) FROM users);
+ALTER SEQUENCE task_statuses_seq RESTART WITH (SELECT COALESCE(MAX(id) + 50, 1) FROM task_statuses);
+ALTER SEQUENCE labels_seq RESTART WITH (SELECT COALESCE(MAX(id) + 50, 1) FROM labels);
+ALTER SEQUENCE tasks_seq RESTART WITH (SELECT COALESCE(MAX(id) + 50, 1) FROM tasks);
+ALTER SEQUENCE task_imports_seq RESTART WITH (SELECT COALESCE(MAX(id) + 50, 1) FROM task_imports);
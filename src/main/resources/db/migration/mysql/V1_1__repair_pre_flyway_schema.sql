@@ -0,0 +1,20 @@
+SET @add_token_version = (
+    SELECT IF(COUNT(*) = 0, 'ALTER TABLE users ADD COLUMN token_version INT DEFAULT 0 NOT NULL', 'DO 0')
+    FROM information_schema.columns
+    WHERE table_schema = DATABASE() AND table_name = 'users' AND column_name = 'token_version'
+);
+PREPARE add_token_version FROM @add_token_version;
+EXECUTE add_token_version;
+DEALLOCATE PREPARE add_token_version;
+
+CREATE TABLE IF NOT EXISTS task_imports (
+    id BIGINT NOT NULL,
+    format VARCHAR(16) NOT NULL,
+    status VARCHAR(16) NOT NULL,
+    last_committed_line BIGINT NOT NULL,
+    imported_count BIGINT NOT NULL,
+    failed_count BIGINT NOT NULL,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    CONSTRAINT pk_task_imports PRIMARY KEY (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,75 @@
+CREATE TABLE users_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO users_seq VALUES (1);
+CREATE TABLE task_statuses_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO task_statuses_seq VALUES (1);
+CREATE TABLE labels_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO labels_seq VALUES (1);
+CREATE TABLE tasks_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO tasks_seq VALUES (1);
+CREATE TABLE task_imports_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO task_imports_seq VALUES (1);
+
+CREATE TABLE users (
+    id BIGINT NOT NULL,
+    first_name VARCHAR(255),
+    last_name VARCHAR(255),
+    email VARCHAR(255) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    role VARCHAR(255),
+    token_version INT DEFAULT 0 NOT NULL,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    CONSTRAINT pk_users PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+) ENGINE = InnoDB;
+
+CREATE TABLE task_statuses (
+    id BIGINT NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    slug VARCHAR(255) NOT NULL,
+    created_at DATETIME(6),
+    CONSTRAINT pk_task_statuses PRIMARY KEY (id),
+    CONSTRAINT uk_task_statuses_name UNIQUE (name),
+    CONSTRAINT uk_task_statuses_slug UNIQUE (slug)
+) ENGINE = InnoDB;
+
+CREATE TABLE labels (
+    id BIGINT NOT NULL,
+    name VARCHAR(1000) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    CONSTRAINT pk_labels PRIMARY KEY (id),
+    CONSTRAINT uk_labels_name UNIQUE (name(768))
+) ENGINE = InnoDB;
+
+CREATE TABLE tasks (
+    id BIGINT NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    `index` INT,
+    description TEXT,
+    status_id BIGINT NOT NULL,
+    assignee_id BIGINT,
+    created_at DATETIME(6),
+    CONSTRAINT pk_tasks PRIMARY KEY (id),
+    CONSTRAINT fk_tasks_status FOREIGN KEY (status_id) REFERENCES task_statuses (id),
+    CONSTRAINT fk_tasks_assignee FOREIGN KEY (assignee_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE task_labels (
+    task_id BIGINT NOT NULL,
+    label_id BIGINT NOT NULL,
+    CONSTRAINT pk_task_labels PRIMARY KEY (task_id, label_id),
+    CONSTRAINT fk_task_labels_task FOREIGN KEY (task_id) REFERENCES tasks (id),
+    CONSTRAINT fk_task_labels_label FOREIGN KEY (label_id) REFERENCES labels (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE task_imports (
+    id BIGINT NOT NULL,
+    format VARCHAR(16) NOT NULL,
+    status VARCHAR(16) NOT NULL,
+    last_committed_line BIGINT NOT NULL,
+    imported_count BIGINT NOT NULL,
+    failed_count BIGINT NOT NULL,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    CONSTRAINT pk_task_imports PRIMARY KEY (id)
+) ENGINE = InnoDB;
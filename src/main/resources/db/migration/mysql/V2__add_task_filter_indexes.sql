@@ -0,0 +1,4 @@
+CREATE INDEX idx_tasks_created_at_id ON tasks (created_at, id);
+CREATE INDEX idx_tasks_status_created_at ON tasks (status_id, created_at, id);
+CREATE INDEX idx_tasks_assignee_created_at ON tasks (assignee_id, created_at, id);
+CREATE INDEX idx_task_labels_label_task ON task_labels (label_id, task_id);
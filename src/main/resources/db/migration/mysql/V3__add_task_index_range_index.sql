@@ -0,0 +1 @@
+CREATE INDEX idx_tasks_index ON tasks (`index`);
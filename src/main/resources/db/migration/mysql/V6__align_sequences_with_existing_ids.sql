@@ -0,0 +1,16 @@
+CREATE TABLE IF NOT EXISTS users_seq (next_val BIGINT) ENGINE = InnoDB;
+CREATE TABLE IF NOT EXISTS task_statuses_seq (next_val BIGINT) ENGINE = InnoDB;
+CREATE TABLE IF NOT EXISTS labels_seq (next_val BIGINT) ENGINE = InnoDB;
+CREATE TABLE IF NOT EXISTS tasks_seq (next_val BIGINT) ENGINE = InnoDB;
+CREATE TABLE IF NOT EXISTS task_imports_seq (next_val BIGINT) ENGINE = InnoDB;
+
+DELETE FROM users_seq;
+INSERT INTO users_seq SELECT COALESCE(MAX(id) + 50, 1) FROM users;
+DELETE FROM task_statuses_seq;
+INSERT INTO task_statuses_seq SELECT COALESCE(MAX(id) + 50, 1) FROM task_statuses;
+DELETE FROM labels_seq;
+INSERT INTO labels_seq SELECT COALESCE(MAX(id) + 50, 1) FROM labels;
+DELETE FROM tasks_seq;
+INSERT INTO tasks_seq SELECT COALESCE(MAX(id) + 50, 1) FROM tasks;
+DELETE FROM task_imports_seq;
+INSERT INTO task_imports_seq SELECT COALESCE(MAX(id) + 50, 1) FROM task_imports;
@@ -0,0 +1,41 @@
+package hexlet.code.components;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlRequestStatsTest {
+    private final PasswordHashingExecutor executor = new PasswordHashingExecutor(1, 10);
+
+    @AfterEach
+    void tearDown() {
+        executor.destroy();
+    }
+
+    @Test
+    @DisplayName("Запросы в пуле хеширования паролей учитываются в статистике запроса")
+    void propagateToPasswordExecutorTest() {
+        try (var stats = SqlRequestStats.start()) {
+            executor.submit(() -> {
+                SqlRequestStats.current().recordStatement(5, 1);
+                return null;
+            }).join();
+
+            assertEquals(1, stats.getStatements());
+            assertEquals(5, stats.getElapsedMillis());
+            assertEquals(1, stats.getRowsAffected());
+        }
+    }
+
+    @Test
+    @DisplayName("После задачи поток пула не сохраняет статистику запроса")
+    void clearPasswordExecutorThreadTest() {
+        try (var stats = SqlRequestStats.start()) {
+            executor.submit(() -> null).join();
+        }
+
+        assertNull(executor.submit(SqlRequestStats::current).join());
+    }
+}
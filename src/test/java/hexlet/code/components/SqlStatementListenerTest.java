@@ -0,0 +1,27 @@
+package hexlet.code.components;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlStatementListenerTest {
+
+    @Test
+    @DisplayName("Литералы в тексте запроса скрываются перед записью в лог")
+    void redactLiteralsTest() {
+        var sql = "select t1_0.id from users t1_0 where t1_0.email='admin@example.com' and t1_0.token_version>3 "
+                + "and t1_0.password='it''s secret' fetch first 20 rows only";
+
+        assertEquals("select t1_0.id from users t1_0 where t1_0.email='?' and t1_0.token_version>? "
+                + "and t1_0.password='?' fetch first ? rows only", SqlStatementListener.redact(sql));
+    }
+
+    @Test
+    @DisplayName("Запрос с параметрами привязки остаётся без изменений")
+    void keepPlaceholdersTest() {
+        var sql = "insert into tasks (name,status_id,version,id) values (?,?,?,?)";
+
+        assertEquals(sql, SqlStatementListener.redact(sql));
+    }
+}
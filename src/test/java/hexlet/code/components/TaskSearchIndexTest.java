@@ -0,0 +1,124 @@
+package hexlet.code.components;
+
+import hexlet.code.dtos.TaskSearchDocument;
+import hexlet.code.dtos.TaskSearchQuery;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskSearchIndexTest {
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    private TaskSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        searchIndex = new TaskSearchIndex(new ByteBuffersDirectory());
+        searchIndex.rebuild(Stream.of(
+                new TaskSearchDocument(1L, "Fix login bug", "Users cannot sign in", 1L, 10L, Set.of(100L, 200L),
+                        3, CREATED_AT),
+                new TaskSearchDocument(2L, "Write docs", "Describe the login flow", 2L, null, Set.of(100L),
+                        1, CREATED_AT.plusDays(1)),
+                new TaskSearchDocument(3L, "Refactor parser", null, 1L, 10L, Set.of(), null, CREATED_AT.plusDays(2))
+        ));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        searchIndex.close();
+    }
+
+    @Test
+    @DisplayName("Совпадение в названии ранжируется выше совпадения в описании")
+    void rankedSearchTest() {
+        assertEquals(List.of(1L, 2L), search("LOGIN"));
+    }
+
+    @Test
+    @DisplayName("Поиск по префиксу и по нескольким словам")
+    void prefixAndTokenizedSearchTest() {
+        assertEquals(List.of(3L), search("pars"));
+        assertEquals(List.of(1L), search("login users"));
+        assertTrue(search("   ").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Изменения и удаления применяются к индексу")
+    void applyChangesTest() {
+        searchIndex.apply(List.of(new TaskSearchDocument(3L, "Parser for login form", null, 1L, null, Set.of(),
+                null, CREATED_AT)), Set.of(1L));
+
+        assertEquals(Set.of(2L, 3L), Set.copyOf(search("login")));
+        assertTrue(search("refactor").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Фильтры по статусу, исполнителю, меткам, дате и названию применяются в индексе")
+    void filteredSearchTest() {
+        assertEquals(List.of(1L), search(query("login", "bug", null, null, null, false)));
+        assertEquals(List.of(1L), search(query("login", null, List.of(1L), null, null, false)));
+        assertEquals(List.of(1L), search(query("login", null, null, List.of(10L), null, false)));
+        assertEquals(List.of(1L, 2L), search(query("login", null, null, null, List.of(100L), false)));
+        assertEquals(List.of(1L), search(query("login", null, null, null, List.of(100L, 200L), true)));
+        assertTrue(search(query("login", null, List.of(), null, null, false)).isEmpty());
+        assertEquals(List.of(2L), search(new TaskSearchQuery("login", null, null, null, null, false,
+                CREATED_AT.plusHours(1), null, null, null)));
+        assertEquals(List.of(2L), search(new TaskSearchQuery("login", null, null, null, null, false,
+                null, null, null, 2)));
+    }
+
+    @Test
+    @DisplayName("Изменение без загруженных меток сохраняет метки из индекса")
+    void applyKeepsStoredLabelsTest() {
+        searchIndex.apply(List.of(new TaskSearchDocument(1L, "Fix login bug", "Renamed", 1L, 10L, 3, CREATED_AT)),
+                Set.of());
+
+        assertEquals(List.of(1L), search(query("login", null, null, null, List.of(200L), false)));
+    }
+
+    @Test
+    @DisplayName("Общее число совпадений и страницы считаются по индексу после фильтров")
+    void pagingAndTotalTest() {
+        searchIndex.rebuild(LongStream.rangeClosed(1, 1500).mapToObj(id -> new TaskSearchDocument(id,
+                "Task " + id, null, id % 2, null, Set.of(), (int) id, CREATED_AT)));
+
+        var query = query("task", null, List.of(0L), null, null, false);
+        var sort = Sort.by(Sort.Direction.DESC, "index");
+        var page = searchIndex.search(query, sort, 600, 3);
+
+        assertEquals(750, page.totalHits());
+        assertEquals(List.of(300L, 298L, 296L), page.ids());
+
+        var first = searchIndex.searchAfter(query, sort, null, 700);
+        var rest = searchIndex.searchAfter(query, sort, first.last(), 700);
+
+        assertEquals(700, first.ids().size());
+        assertEquals(50, rest.ids().size());
+        assertEquals(2L, rest.ids().getLast());
+    }
+
+    private List<Long> search(String text) {
+        return search(TaskSearchQuery.of(text));
+    }
+
+    private List<Long> search(TaskSearchQuery query) {
+        return searchIndex.search(query, null, 0, 10).ids();
+    }
+
+    private TaskSearchQuery query(String text, String titleCont, List<Long> statusIds, List<Long> assigneeIds,
+                                  List<Long> labelIds, boolean matchAllLabels) {
+        return new TaskSearchQuery(text, titleCont, statusIds, assigneeIds, labelIds, matchAllLabels,
+                null, null, null, null);
+    }
+}
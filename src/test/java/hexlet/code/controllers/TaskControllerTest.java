@@ -1,26 +1,47 @@
 package hexlet.code.controllers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.dtos.TaskExportFormat;
+import hexlet.code.dtos.TaskVersion;
 import hexlet.code.dtos.requests.FilterRequestDto;
 import hexlet.code.dtos.requests.TaskRequestDto;
+import hexlet.code.dtos.response.PageResponseDto;
+import hexlet.code.dtos.response.TaskBatchResultDto;
 import hexlet.code.dtos.response.TaskResponseDto;
+import hexlet.code.services.impl.TaskBatchServiceImpl;
 import hexlet.code.services.impl.TaskServiceImpl;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -31,6 +52,8 @@ class TaskControllerTest {
     private MockMvc mockMvc;
     @MockitoBean
     private TaskServiceImpl taskService;
+    @MockitoBean
+    private TaskBatchServiceImpl taskBatchService;
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -39,6 +62,7 @@ class TaskControllerTest {
     @Test
     @DisplayName("При получении задачи произошла ошибка")
     void getTaskError() throws Exception {
+        when(taskService.findVersions(1L)).thenReturn(new TaskVersion(0L, 0L));
         when(taskService.findById(1L)).thenThrow(new RuntimeException("Задача не найдена"));
 
         mockMvc.perform(MockMvcRequestBuilders.get(BASE_URL + "/1")
@@ -66,6 +90,7 @@ class TaskControllerTest {
                 .assigneeId(4L)
                 .build();
 
+        when(taskService.findVersions(1L)).thenReturn(new TaskVersion(0L, 0L));
         when(taskService.findById(1L)).thenReturn(response);
 
         mockMvc.perform(MockMvcRequestBuilders.get(BASE_URL + "/1")
@@ -82,10 +107,65 @@ class TaskControllerTest {
     }
 
 
+    @Test
+    @DisplayName("Задача не изменилась: 304 без загрузки сущности")
+    void getTaskNotModified() throws Exception {
+        when(taskService.findVersions(1L)).thenReturn(new TaskVersion(3L, 7L));
+
+        mockMvc.perform(MockMvcRequestBuilders.get(BASE_URL + "/1")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"3.7\""))
+                .andExpectAll(
+                        status().isNotModified(),
+                        header().string(HttpHeaders.ETAG, "\"3.7\""),
+                        content().string("")
+                );
+
+        verify(taskService, never()).findById(any());
+
+        when(taskService.findById(1L)).thenReturn(TaskResponseDto.builder().id(1L).title("name").build());
+
+        mockMvc.perform(MockMvcRequestBuilders.get(BASE_URL + "/1")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"2.7\""))
+                .andExpectAll(
+                        status().isOk(),
+                        header().string(HttpHeaders.ETAG, "\"3.7\""),
+                        jsonPath("$.title").value("name")
+                );
+
+        when(taskService.findVersions(1L)).thenReturn(new TaskVersion(3L, 8L));
+
+        mockMvc.perform(MockMvcRequestBuilders.get(BASE_URL + "/1")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"3.7\""))
+                .andExpectAll(
+                        status().isOk(),
+                        header().string(HttpHeaders.ETAG, "\"3.8\"")
+                );
+    }
+
+    @Test
+    @DisplayName("Список задач не изменился: 304 без запроса к БД")
+    void getTasksNotModified() throws Exception {
+        var page = PageResponseDto.<TaskResponseDto>builder().content(List.of()).build();
+
+        when(taskService.findPage(any(FilterRequestDto.class))).thenReturn(page);
+
+        var etag = mockMvc.perform(MockMvcRequestBuilders.get(BASE_URL))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertTrue(etag.startsWith("W/"));
+
+        mockMvc.perform(MockMvcRequestBuilders.get(BASE_URL)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        verify(taskService, times(1)).findPage(any(FilterRequestDto.class));
+    }
+
     @Test
     @DisplayName("При получении задачи произошла ошибка")
     void getTasksError() throws Exception {
-        when(taskService.findByFilter(any(FilterRequestDto.class)))
+        when(taskService.findPage(any(FilterRequestDto.class)))
                 .thenThrow(new RuntimeException("Произошла ошибка"));
 
         mockMvc.perform(MockMvcRequestBuilders.get(BASE_URL)
@@ -114,12 +194,19 @@ class TaskControllerTest {
                 .assigneeId(200L)
                 .build();
 
-        when(taskService.findByFilter(any(FilterRequestDto.class))).thenReturn(List.of(response1, response2));
+        var page = PageResponseDto.<TaskResponseDto>builder()
+                .content(List.of(response1, response2))
+                .totalCount(2L)
+                .build();
+
+        when(taskService.findPage(any(FilterRequestDto.class))).thenReturn(page);
 
         mockMvc.perform(MockMvcRequestBuilders.get(BASE_URL)
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpectAll(
                         status().isOk(),
+                        header().string("X-Total-Count", "2"),
+                        header().doesNotExist("X-Next-Cursor"),
                         jsonPath("$.length()").value(2),
 
                         jsonPath("$[0].id").value(1),
@@ -137,6 +224,67 @@ class TaskControllerTest {
     }
 
 
+    @Test
+    @DisplayName("Получение страницы задач без подсчёта общего количества")
+    void getTasksPage() throws Exception {
+        var response = TaskResponseDto.builder()
+                .id(1L)
+                .title("First Task")
+                .status("new")
+                .build();
+        var page = PageResponseDto.<TaskResponseDto>builder()
+                .content(List.of(response))
+                .nextCursor("next")
+                .build();
+
+        when(taskService.findPage(argThat(filter -> filter != null
+                && Integer.valueOf(10).equals(filter.getStart())
+                && Integer.valueOf(11).equals(filter.getEnd())
+                && Boolean.FALSE.equals(filter.getCount()))))
+                .thenReturn(page);
+
+        mockMvc.perform(MockMvcRequestBuilders.get(BASE_URL)
+                        .param("_start", "10")
+                        .param("_end", "11")
+                        .param("count", "false")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpectAll(
+                        status().isOk(),
+                        header().doesNotExist("X-Total-Count"),
+                        header().string("X-Next-Cursor", "next"),
+                        jsonPath("$.length()").value(1),
+                        jsonPath("$[0].title").value("First Task")
+                );
+    }
+
+    @Test
+    @DisplayName("Фильтры со списками значений и диапазонами передаются в сервис")
+    void getTasksWithMultiValueFilters() throws Exception {
+        var page = PageResponseDto.<TaskResponseDto>builder().content(List.of()).build();
+
+        when(taskService.findPage(argThat(filter -> filter != null
+                && List.of("draft", "published").equals(filter.getSlug())
+                && List.of(1L, 2L).equals(filter.getLabelId())
+                && "all".equals(filter.getLabelMatch())
+                && List.of(3L, 4L).equals(filter.getAssigneeId())
+                && LocalDateTime.of(2024, 1, 1, 0, 0).equals(filter.getCreatedAtFrom())
+                && Integer.valueOf(5).equals(filter.getIndexTo()))))
+                .thenReturn(page);
+
+        mockMvc.perform(MockMvcRequestBuilders.get(BASE_URL)
+                        .param("status", "draft,published")
+                        .param("labelId", "1,2")
+                        .param("labelMatch", "all")
+                        .param("assigneeId", "3", "4")
+                        .param("createdAtFrom", "2024-01-01T00:00:00")
+                        .param("indexTo", "5")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.length()").value(0)
+                );
+    }
+
     @Test
     @DisplayName("При добавлении задачи произошла ошибка")
     void addTaskError() throws Exception {
@@ -198,7 +346,7 @@ class TaskControllerTest {
                 .assigneeId(4L)
                 .build();
 
-        when(taskService.update(any(TaskRequestDto.class))).thenThrow(new RuntimeException("Произошла ошибка"));
+        when(taskService.update(any(TaskRequestDto.class), any())).thenThrow(new RuntimeException("Произошла ошибка"));
 
         mockMvc.perform(MockMvcRequestBuilders.put(BASE_URL + "/1")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -226,7 +374,8 @@ class TaskControllerTest {
                 .assigneeId(4L)
                 .build();
 
-        when(taskService.update(any(TaskRequestDto.class))).thenReturn(response);
+        when(taskService.update(any(TaskRequestDto.class), any())).thenReturn(response);
+        when(taskService.findVersions(1L)).thenReturn(new TaskVersion(0L, 0L));
 
         mockMvc.perform(MockMvcRequestBuilders.put(BASE_URL + "/1")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -242,5 +391,58 @@ class TaskControllerTest {
                 );
     }
 
+    @Test
+    @DisplayName("Пакетное добавление задач возвращает результат по каждому элементу")
+    void addTasksBatch() throws Exception {
+        var created = TaskResponseDto.builder().id(1L).title("First Task").status("draft").build();
+        var results = List.of(
+                TaskBatchResultDto.builder().index(0).id(1L).task(created).build(),
+                TaskBatchResultDto.builder().index(1).error("Статус unknown не найден").build()
+        );
+        var request = List.of(
+                TaskRequestDto.builder().title("First Task").slug("draft").build(),
+                TaskRequestDto.builder().title("Second Task").slug("unknown").build()
+        );
+
+        when(taskBatchService.createBatch(anyList())).thenReturn(results);
+
+        mockMvc.perform(MockMvcRequestBuilders.post(BASE_URL + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$[0].id").value(1),
+                        jsonPath("$[0].task.title").value("First Task"),
+                        jsonPath("$[1].index").value(1),
+                        jsonPath("$[1].error").value("Статус unknown не найден")
+                );
+    }
+
+    @Test
+    @DisplayName("Потоковый экспорт задач в CSV")
+    void exportTasks() throws Exception {
+        doAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(2).write("id,title\n1,First\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(taskService).export(any(FilterRequestDto.class), eq(TaskExportFormat.CSV), any(OutputStream.class));
+
+        var result = mockMvc.perform(MockMvcRequestBuilders.get(BASE_URL + "/export").param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpectAll(
+                        status().isOk(),
+                        header().string("Content-Disposition", "attachment; filename=tasks.csv"),
+                        content().contentTypeCompatibleWith("text/csv"),
+                        content().string("id,title\n1,First\n")
+                );
+    }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Экспорт в неподдерживаемом формате")
+    void exportTasksUnsupportedFormat() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get(BASE_URL + "/export").param("format", "xml"))
+                .andExpect(status().isBadRequest());
+    }
+}
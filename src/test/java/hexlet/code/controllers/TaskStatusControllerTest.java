@@ -70,7 +70,7 @@ public class TaskStatusControllerTest {
         var response1 = TaskStatusResponseDto.builder().id(1L).name("New").slug("slug").createdAt(LDT).build();
         var response2 = TaskStatusResponseDto.builder().id(2L).name("In progress").slug("slug2").createdAt(LDT).build();
 
-        when(taskStatusService.findAll()).thenReturn(List.of(response1, response2));
+        when(taskStatusService.findAll(null, null)).thenReturn(List.of(response1, response2));
 
         mockMvc.perform(MockMvcRequestBuilders.get(BASE_URL)
                         .contentType(MediaType.APPLICATION_JSON))
@@ -88,7 +88,7 @@ public class TaskStatusControllerTest {
     @Test
     @DisplayName("При получении всех статусов произошла ошибка")
     void getAllTaskStatusesError() throws Exception {
-        when(taskStatusService.findAll()).thenThrow(new RuntimeException("Task statuses not found"));
+        when(taskStatusService.findAll(null, null)).thenThrow(new RuntimeException("Task statuses not found"));
 
         mockMvc.perform(MockMvcRequestBuilders.get(BASE_URL)
                         .contentType(MediaType.APPLICATION_JSON))
@@ -132,7 +132,7 @@ public class TaskStatusControllerTest {
         var request = TaskStatusRequestDto.builder().id(1L).name("New").slug("slug").createdAt(LDT).build();
         var response = TaskStatusResponseDto.builder().id(1L).name("New").slug("slug").createdAt(LDT).build();
 
-        when(taskStatusService.update(request)).thenReturn(response);
+        when(taskStatusService.update(request, null)).thenReturn(response);
 
         mockMvc.perform(MockMvcRequestBuilders.put(BASE_URL + "/1")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -149,7 +149,7 @@ public class TaskStatusControllerTest {
     void updateTaskStatusError() throws Exception {
         var taskStatusDto = TaskStatusRequestDto.builder().id(1L).name("New").slug("slug").createdAt(LDT).build();
 
-        when(taskStatusService.update(taskStatusDto)).thenThrow(new RuntimeException("Task status not updated"));
+        when(taskStatusService.update(taskStatusDto, null)).thenThrow(new RuntimeException("Task status not updated"));
 
         mockMvc.perform(MockMvcRequestBuilders.put(BASE_URL + "/1")
                         .contentType(MediaType.APPLICATION_JSON)
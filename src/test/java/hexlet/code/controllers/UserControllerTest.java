@@ -103,7 +103,7 @@ class UserControllerTest {
                 .build();
 
 
-        when(userService.findAll()).thenReturn(List.of(response1, response2));
+        when(userService.findAll(null, null)).thenReturn(List.of(response1, response2));
 
         mockMvc.perform(MockMvcRequestBuilders.get(BASE_URL)
                         .contentType(MediaType.APPLICATION_JSON))
@@ -128,7 +128,7 @@ class UserControllerTest {
     @Test
     @DisplayName("Ошибка при получении всех пользователей")
     void getAllUsersErrorTest() throws Exception {
-        when(userService.findAll()).thenThrow(new RuntimeException("Error"));
+        when(userService.findAll(null, null)).thenThrow(new RuntimeException("Error"));
 
         mockMvc.perform(MockMvcRequestBuilders.get(BASE_URL)
                         .contentType(MediaType.APPLICATION_JSON))
@@ -207,7 +207,7 @@ class UserControllerTest {
                 .build();
 
 
-        when(userService.update(any(UserRequestDto.class))).thenReturn(userDto);
+        when(userService.update(any(UserRequestDto.class), any())).thenReturn(userDto);
 
         mockMvc.perform(MockMvcRequestBuilders.put(BASE_URL + "/1")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -229,7 +229,7 @@ class UserControllerTest {
                 .email("john.doe@example.com")
                 .build();
 
-        when(userService.update(any(UserRequestDto.class))).thenThrow(new RuntimeException("Error"));
+        when(userService.update(any(UserRequestDto.class), any())).thenThrow(new RuntimeException("Error"));
 
         mockMvc.perform(MockMvcRequestBuilders.put(BASE_URL + "/1")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -0,0 +1,85 @@
+package hexlet.code.repositories;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SchemaMigrationTest {
+    private static final String URL = "jdbc:h2:mem:pre-flyway;DB_CLOSE_DELAY=-1";
+
+    @Test
+    @DisplayName("База, созданная до Flyway, доводится миграциями до текущей схемы")
+    void migratePreFlywayDatabaseTest() throws SQLException {
+        try (var connection = DriverManager.getConnection(URL, "sa", "")) {
+            createPreFlywaySchema(connection);
+
+            Flyway.configure()
+                    .dataSource(URL, "sa", "")
+                    .locations("classpath:db/migration/h2")
+                    .baselineOnMigrate(true)
+                    .baselineVersion("1")
+                    .load()
+                    .migrate();
+
+            assertEquals(0L, queryLong(connection, "SELECT token_version FROM users WHERE id = 7"));
+            assertEquals(0L, queryLong(connection, "SELECT COUNT(*) FROM task_imports"));
+            assertEquals(57L, queryLong(connection, "SELECT NEXT VALUE FOR users_seq"));
+            assertEquals(1L, queryLong(connection, "SELECT NEXT VALUE FOR task_imports_seq"));
+        }
+    }
+
+    private static void createPreFlywaySchema(Connection connection) throws SQLException {
+        try (var statement = connection.createStatement()) {
+            statement.execute("""
+                    CREATE TABLE users (
+                        id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                        first_name VARCHAR(255),
+                        last_name VARCHAR(255),
+                        email VARCHAR(255) NOT NULL UNIQUE,
+                        password VARCHAR(255) NOT NULL,
+                        role VARCHAR(255),
+                        created_at TIMESTAMP(6),
+                        updated_at TIMESTAMP(6))""");
+            statement.execute("""
+                    CREATE TABLE task_statuses (
+                        id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                        name VARCHAR(255) NOT NULL UNIQUE,
+                        slug VARCHAR(255) NOT NULL UNIQUE,
+                        created_at TIMESTAMP(6))""");
+            statement.execute("""
+                    CREATE TABLE labels (
+                        id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                        name VARCHAR(1000) NOT NULL UNIQUE,
+                        created_at TIMESTAMP(6) NOT NULL)""");
+            statement.execute("""
+                    CREATE TABLE tasks (
+                        id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                        name VARCHAR(255) NOT NULL,
+                        index INTEGER,
+                        description TEXT,
+                        status_id BIGINT NOT NULL REFERENCES task_statuses (id),
+                        assignee_id BIGINT REFERENCES users (id),
+                        created_at TIMESTAMP(6))""");
+            statement.execute("""
+                    CREATE TABLE task_labels (
+                        task_id BIGINT NOT NULL REFERENCES tasks (id),
+                        label_id BIGINT NOT NULL REFERENCES labels (id),
+                        PRIMARY KEY (task_id, label_id))""");
+            statement.execute("INSERT INTO users (id, email, password) VALUES (7, 'old@example.com', 'secret')");
+        }
+    }
+
+    private static long queryLong(Connection connection, String sql) throws SQLException {
+        try (var statement = connection.createStatement(); var resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+
+            return resultSet.getLong(1);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package hexlet.code.repositories;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@Transactional
+class TaskIndexUsageTest {
+    private static final int TASKS = 200;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        var statusId = nextId("task_statuses_seq");
+        var userId = nextId("users_seq");
+        var labelId = nextId("labels_seq");
+
+        jdbcTemplate.update("INSERT INTO task_statuses (id, name, slug) VALUES (?, 'Explain', 'explain')", statusId);
+        jdbcTemplate.update("INSERT INTO users (id, email, password) VALUES (?, 'explain@example.com', 'hash')", userId);
+        jdbcTemplate.update("INSERT INTO labels (id, name, created_at) VALUES (?, 'explain', ?)",
+                labelId, LocalDateTime.now());
+        var rows = new ArrayList<Object[]>();
+
+        for (var i = 0; i < TASKS; i++) {
+            rows.add(new Object[] {"Explain " + i, statusId, userId, LocalDateTime.now().minusMinutes(i)});
+        }
+
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO tasks (id, name, status_id, assignee_id, created_at)
+                VALUES (NEXT VALUE FOR tasks_seq, ?, ?, ?, ?)
+                """, rows);
+        jdbcTemplate.update("INSERT INTO task_labels (task_id, label_id) SELECT id, ? FROM tasks WHERE status_id = ?",
+                labelId, statusId);
+    }
+
+    private Long nextId(String sequence) {
+        return jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR " + sequence, Long.class);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @DisplayName("Фильтры и сортировка списка задач используют индексы")
+    @CsvSource(delimiter = '|', value = {
+        "status  | SELECT id FROM tasks WHERE status_id = 1 ORDER BY created_at, id",
+        "assignee| SELECT id FROM tasks WHERE assignee_id = 1 ORDER BY created_at, id",
+        "statuses| SELECT id FROM tasks WHERE status_id IN (1, 2) ORDER BY created_at, id",
+        "label   | SELECT task_id FROM task_labels WHERE label_id = 1",
+        "labels  | SELECT task_id FROM task_labels WHERE label_id IN (1, 2)",
+        "index   | SELECT id FROM tasks WHERE index BETWEEN 1 AND 10",
+        "keyset  | SELECT id FROM tasks WHERE created_at > TIMESTAMP '2020-01-01 00:00:00' ORDER BY created_at, id"
+    })
+    void filterUsesIndexTest(String predicate, String sql) {
+        var plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+
+        assertFalse(plan.contains("tableScan"), predicate + ": " + plan);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @DisplayName("Сортировка списков выполняется по индексу")
+    @CsvSource(delimiter = '|', value = {
+        "tasks by title     | SELECT id FROM tasks ORDER BY name, id LIMIT 50",
+        "tasks by createdAt | SELECT id FROM tasks ORDER BY created_at, id LIMIT 50",
+        "users by lastName  | SELECT id FROM users ORDER BY last_name, id",
+        "labels by createdAt| SELECT id FROM labels ORDER BY created_at, id"
+    })
+    void sortUsesIndexTest(String sort, String sql) {
+        var plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+
+        assertTrue(plan.contains("index sorted"), sort + ": " + plan);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @DisplayName("Для фильтров созданы составные индексы")
+    @CsvSource({
+        "IDX_TASKS_CREATED_AT_ID",
+        "IDX_TASKS_STATUS_CREATED_AT",
+        "IDX_TASKS_ASSIGNEE_CREATED_AT",
+        "IDX_TASK_LABELS_LABEL_TASK",
+        "IDX_TASKS_INDEX"
+    })
+    void compositeIndexExistsTest(String index) {
+        var count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM INFORMATION_SCHEMA.INDEXES WHERE INDEX_NAME = ?", Integer.class, index);
+
+        assertTrue(count > 0, index);
+    }
+}
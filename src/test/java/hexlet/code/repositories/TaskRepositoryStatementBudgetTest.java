@@ -0,0 +1,129 @@
+package hexlet.code.repositories;
+
+import hexlet.code.components.SqlBudgetFilter;
+import hexlet.code.components.SqlRequestStats;
+import hexlet.code.dtos.TaskView;
+import hexlet.code.dtos.requests.FilterRequestDto;
+import hexlet.code.models.Task;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {"app.sql.count-header=true", "app.sql.proxy.count-rows=true"})
+@AutoConfigureMockMvc
+@Transactional
+class TaskRepositoryStatementBudgetTest {
+    private static final int TASKS = 50;
+
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private TaskStatusRepository taskStatusRepository;
+    @Autowired
+    private LabelRepository labelRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        var status = taskStatusRepository.findBySlug("draft").orElseThrow();
+        var labels = labelRepository.findAll();
+
+        for (var i = 0; i < TASKS; i++) {
+            var task = new Task();
+
+            task.setName("Budget " + i);
+            task.setTaskStatus(status);
+            task.setLabels(new HashSet<>(labels));
+
+            taskRepository.save(task);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Выборка задач по фильтру укладывается в один запрос и читает только найденные строки")
+    void findByFilterBudgetTest() {
+        var filter = FilterRequestDto.builder().titleCont("Budget").build();
+        var stats = SqlRequestStats.measure(() ->
+                assertEquals(TASKS, taskRepository.findByFilter(filter, Sort.by("id")).size()));
+
+        assertEquals(1, stats.getStatements());
+        assertEquals(TASKS, stats.getRowsRead());
+    }
+
+    @Test
+    @DisplayName("Подсчёт и загрузка меток задач выполняются одним запросом каждый")
+    void countAndLabelsBudgetTest() {
+        var filter = FilterRequestDto.builder().titleCont("Budget").build();
+        var ids = taskRepository.findByFilter(filter, Sort.by("id")).stream().map(TaskView::id).toList();
+
+        assertEquals(1, SqlRequestStats.measure(() -> taskRepository.countByFilter(filter)).getStatements());
+        assertEquals(1, SqlRequestStats.measure(() -> taskRepository.findLabelIdsByTaskIds(ids)).getStatements());
+    }
+
+    @Test
+    @DisplayName("Вложенные измерения учитываются и во внешнем бюджете")
+    void nestedBudgetTest() {
+        var filter = FilterRequestDto.builder().titleCont("Budget").build();
+
+        try (var outer = SqlRequestStats.start()) {
+            var inner = SqlRequestStats.measure(() -> taskRepository.countByFilter(filter));
+
+            taskRepository.countByFilter(filter);
+
+            assertEquals(1, inner.getStatements());
+            assertEquals(2, outer.getStatements());
+        }
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("Ответ содержит число выполненных SQL-запросов в заголовке X-SQL-Count")
+    void sqlCountHeaderTest() throws Exception {
+        var response = mockMvc.perform(get("/api/labels"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+        var count = Long.parseLong(response.getHeader(SqlBudgetFilter.SQL_COUNT_HEADER));
+
+        assertTrue(count >= 1 && count <= 2, "Ожидалось 1-2 запроса, выполнено " + count);
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("Запросы потокового экспорта учитываются в заголовке X-SQL-Count")
+    void exportSqlCountHeaderTest() throws Exception {
+        var result = mockMvc.perform(get("/api/tasks/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        var response = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+        var count = Long.parseLong(response.getHeader(SqlBudgetFilter.SQL_COUNT_HEADER));
+
+        assertTrue(count >= 1, "Ожидался хотя бы один запрос экспорта, выполнено " + count);
+    }
+}
@@ -0,0 +1,22 @@
+package hexlet.code.services;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class HibernateMetricsDisabledTest {
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Без статистики Hibernate её метрики не регистрируются")
+    void hibernateMetricsAbsentWithoutStatisticsTest() {
+        assertNull(meterRegistry.find("hibernate.query.executions").functionCounter());
+        assertNull(meterRegistry.find("hibernate.second.level.cache.requests").functionCounter());
+    }
+}
@@ -1,6 +1,8 @@
 package hexlet.code.services;
 
+import hexlet.code.components.EntityChangeTracker;
 import hexlet.code.dtos.requests.LabelRequestDto;
+import hexlet.code.models.Label;
 import hexlet.code.repositories.LabelRepository;
 import hexlet.code.services.LabelService;
 import org.junit.jupiter.api.BeforeEach;
@@ -20,6 +22,9 @@ class LabelServiceTest {
     @Autowired
     private LabelService labelService;
 
+    @Autowired
+    private EntityChangeTracker changeTracker;
+
     @BeforeEach
     void setUp() {
         labelRepository.deleteAll();
@@ -36,6 +41,18 @@ class LabelServiceTest {
         assertNotNull(created.getCreatedAt());
     }
 
+    @Test
+    @DisplayName("Создание метки увеличивает счётчик изменений после коммита")
+    void changeTrackingTest() {
+        var before = changeTracker.changes(Label.class);
+        var created = labelService.create(LabelRequestDto.builder().name("Tracked").build());
+
+        assertEquals(before + 1, changeTracker.changes(Label.class));
+        assertEquals(0L, labelService.findVersion(created.getId()));
+        assertNotEquals(changeTracker.weakETag(Label.class), changeTracker.weakETag(Label.class, Label.class));
+        assertThrows(RuntimeException.class, () -> labelService.findVersion(9999L));
+    }
+
     @Test
     @DisplayName("Получение ошибки при поиске несуществующей метки")
     void findByIdNotFoundTest() {
@@ -0,0 +1,64 @@
+package hexlet.code.services;
+
+import hexlet.code.configurations.MetricsConfig;
+import hexlet.code.dtos.requests.FilterRequestDto;
+import hexlet.code.dtos.requests.LabelRequestDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class ServiceMetricsTest {
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private LabelService labelService;
+
+    @Test
+    @DisplayName("Вызовы сервисов измеряются таймером с именем класса реализации и метода")
+    void serviceTimerTest() {
+        var findByFilter = count("TaskServiceImpl", "findByFilter");
+        var create = count("LabelServiceImpl", "create");
+        var findById = count("LabelServiceImpl", "findById");
+
+        taskService.findByFilter(FilterRequestDto.builder().build());
+        var label = labelService.create(LabelRequestDto.builder().name("Metrics").build());
+        labelService.findById(label.getId());
+
+        assertEquals(findByFilter + 1, count("TaskServiceImpl", "findByFilter"));
+        assertEquals(create + 1, count("LabelServiceImpl", "create"));
+        assertEquals(findById + 1, count("LabelServiceImpl", "findById"));
+    }
+
+    @Test
+    @DisplayName("Вызовы репозиториев и статистика Hibernate экспортируются как метрики")
+    void repositoryAndHibernateMetricsTest() {
+        taskService.findByFilter(FilterRequestDto.builder().build());
+        labelService.findAll(null, null);
+
+        assertNotNull(meterRegistry.find("spring.data.repository.invocations")
+                .tag("repository", "LabelRepository")
+                .tag("method", "findAll")
+                .timer());
+        assertNotNull(meterRegistry.find("hibernate.query.executions").functionCounter());
+        assertNotNull(meterRegistry.find("hibernate.entities.loads").functionCounter());
+        assertNotNull(meterRegistry.find("hibernate.second.level.cache.requests").functionCounter());
+    }
+
+    private long count(String className, String method) {
+        var timer = meterRegistry.find(MetricsConfig.SERVICE_TIMER)
+                .tag("class", className)
+                .tag("method", method)
+                .timer();
+
+        return timer == null ? 0 : timer.count();
+    }
+}
@@ -0,0 +1,124 @@
+package hexlet.code.services;
+
+import hexlet.code.dtos.requests.FilterRequestDto;
+import hexlet.code.dtos.requests.LabelRequestDto;
+import hexlet.code.dtos.requests.TaskRequestDto;
+import hexlet.code.dtos.response.TaskBatchResultDto;
+import hexlet.code.dtos.response.TaskResponseDto;
+import hexlet.code.repositories.LabelRepository;
+import hexlet.code.repositories.TaskRepository;
+import hexlet.code.services.impl.TaskBatchServiceImpl;
+import hexlet.code.services.impl.TaskServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {"app.tasks.batch.chunk-size=2", "app.tasks.batch.max-size=10"})
+class TaskBatchServiceTest {
+    @Autowired
+    private TaskBatchServiceImpl taskBatchService;
+    @Autowired
+    private TaskServiceImpl taskService;
+    @Autowired
+    private LabelService labelService;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private LabelRepository labelRepository;
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAll();
+        labelRepository.findLabelByName("Batch").ifPresent(labelRepository::delete);
+    }
+
+    @Test
+    @DisplayName("Пакетное создание задач сохраняет корректные элементы и возвращает ошибки остальных")
+    void createBatchTest() {
+        var label = labelService.create(LabelRequestDto.builder().name("Batch").build());
+        var results = taskBatchService.createBatch(List.of(
+                TaskRequestDto.builder().title("First").slug("draft").taskLabelIds(Set.of(label.getId())).build(),
+                TaskRequestDto.builder().title("Second").slug("unknown").build(),
+                TaskRequestDto.builder().title("Third").slug("published").build(),
+                TaskRequestDto.builder().slug("draft").build(),
+                TaskRequestDto.builder().title("Fifth").slug("draft").taskLabelIds(Set.of(-1L)).build()
+        ));
+
+        assertEquals(List.of(0, 1, 2, 3, 4), results.stream().map(TaskBatchResultDto::getIndex).toList());
+        assertEquals(Set.of(label.getId()), taskService.findById(results.get(0).getId()).getTaskLabelIds());
+        assertEquals("Статус unknown не найден", results.get(1).getError());
+        assertEquals("published", results.get(2).getTask().getStatus());
+        assertEquals("Поле title должно быть заполненным", results.get(3).getError());
+        assertEquals("Метка с id -1 не найдена", results.get(4).getError());
+    }
+
+    @Test
+    @DisplayName("Ошибка базы данных откатывает только свою часть пакета")
+    void failedChunkRolledBackTest() {
+        var results = taskBatchService.createBatch(List.of(
+                TaskRequestDto.builder().title("First").slug("draft").build(),
+                TaskRequestDto.builder().title("x".repeat(300)).slug("draft").build(),
+                TaskRequestDto.builder().title("Third").slug("draft").build()
+        ));
+
+        assertTrue(results.get(0).getError().startsWith("Пакет не сохранён"));
+        assertTrue(results.get(1).getError().startsWith("Пакет не сохранён"));
+        assertNull(results.get(2).getError());
+        assertEquals(List.of("Third"), taskService.findByFilter(FilterRequestDto.builder().build()).stream()
+                .map(TaskResponseDto::getTitle)
+                .toList());
+    }
+
+    @Test
+    @DisplayName("Пакетное обновление задач")
+    void updateBatchTest() {
+        var created = taskBatchService.createBatch(List.of(
+                TaskRequestDto.builder().title("First").slug("draft").build(),
+                TaskRequestDto.builder().title("Second").slug("draft").build()
+        ));
+        var results = taskBatchService.updateBatch(List.of(
+                TaskRequestDto.builder().id(created.get(0).getId()).title("Updated").build(),
+                TaskRequestDto.builder().id(created.get(1).getId()).slug("to_review").build(),
+                TaskRequestDto.builder().id(-1L).title("Missing").build()
+        ));
+
+        assertEquals("Updated", taskService.findById(created.get(0).getId()).getTitle());
+        assertEquals("to_review", taskService.findById(created.get(1).getId()).getStatus());
+        assertEquals("Second", results.get(1).getTask().getTitle());
+        assertEquals("Задача с id -1 не найдена", results.get(2).getError());
+    }
+
+    @Test
+    @DisplayName("Пакетное удаление задач")
+    void deleteBatchTest() {
+        var created = taskBatchService.createBatch(List.of(
+                TaskRequestDto.builder().title("First").slug("draft").build()
+        ));
+        var id = created.getFirst().getId();
+        var results = taskBatchService.deleteBatch(List.of(id, -1L));
+
+        assertNull(results.get(0).getError());
+        assertEquals("Задача с id -1 не найдена", results.get(1).getError());
+        assertThrows(RuntimeException.class, () -> taskService.findById(id));
+    }
+
+    @Test
+    @DisplayName("Пакет больше допустимого размера отклоняется")
+    void oversizedBatchTest() {
+        var dtos = IntStream.range(0, 11)
+                .mapToObj(i -> TaskRequestDto.builder().title("Task " + i).slug("draft").build())
+                .toList();
+
+        assertThrows(IllegalArgumentException.class, () -> taskBatchService.createBatch(dtos));
+        assertThrows(IllegalArgumentException.class, () -> taskBatchService.deleteBatch(Collections.emptyList()));
+    }
+}
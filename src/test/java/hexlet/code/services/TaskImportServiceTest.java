@@ -0,0 +1,195 @@
+package hexlet.code.services;
+
+import hexlet.code.dtos.TaskExportFormat;
+import hexlet.code.dtos.requests.FilterRequestDto;
+import hexlet.code.dtos.response.TaskImportErrorDto;
+import hexlet.code.models.TaskImport;
+import hexlet.code.repositories.TaskImportRepository;
+import hexlet.code.repositories.TaskRepository;
+import hexlet.code.services.impl.TaskImportServiceImpl;
+import hexlet.code.services.impl.TaskServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "app.tasks.import.batch-size=2")
+class TaskImportServiceTest {
+    @Autowired
+    private TaskImportServiceImpl taskImportService;
+    @Autowired
+    private TaskServiceImpl taskService;
+    @Autowired
+    private TaskImportRepository taskImportRepository;
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAll();
+        taskImportRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Импорт NDJSON сохраняет корректные строки и сообщает об ошибках по номерам строк")
+    void importNdjsonTest() throws Exception {
+        var body = """
+                {"title": "Imported 1", "status": "draft"}
+                {"title": "Imported 2", "status": "unknown"}
+
+                {"title": "Imported 3",
+                {"title": "Imported 4", "status": "to_review"}
+                {"title": "Imported 5", "status": "draft"}
+                """;
+
+        var result = taskImportService.importTasks(stream(body), TaskExportFormat.NDJSON, null);
+
+        assertEquals("COMPLETED", result.getStatus());
+        assertEquals(3, result.getImportedCount());
+        assertEquals(2, result.getFailedCount());
+        assertEquals(6, result.getLastCommittedLine());
+        assertEquals(List.of(2L, 4L), result.getErrors().stream().map(TaskImportErrorDto::getLine).toList());
+        assertEquals("Статус unknown не найден", result.getErrors().getFirst().getError());
+        assertEquals(3, countImported());
+        assertEquals(3, taskImportService.findById(result.getId()).getImportedCount());
+    }
+
+    @Test
+    @DisplayName("Повторный запуск импорта продолжает с последней сохранённой строки")
+    void resumeImportTest() throws Exception {
+        var taskImport = new TaskImport();
+
+        taskImport.setFormat(TaskExportFormat.NDJSON.getExtension());
+        taskImport.setStatus(TaskImport.Status.FAILED);
+        taskImport.setLastCommittedLine(2);
+        taskImport.setImportedCount(2);
+        taskImport = taskImportRepository.save(taskImport);
+
+        var body = """
+                {"title": "Imported 1", "status": "draft"}
+                {"title": "Imported 2", "status": "draft"}
+                {"title": "Imported 3", "status": "draft"}
+                """;
+
+        var result = taskImportService.importTasks(stream(body), TaskExportFormat.NDJSON, taskImport.getId());
+
+        assertEquals("COMPLETED", result.getStatus());
+        assertEquals(3, result.getImportedCount());
+        assertEquals(1, countImported());
+        assertEquals("Imported 3", taskService.findByFilter(FilterRequestDto.builder().titleCont("Imported").build())
+                .getFirst().getTitle());
+    }
+
+    @Test
+    @DisplayName("Ошибка при сохранении пакета откатывает его и оставляет импорт на последней сохранённой строке")
+    void failedChunkKeepsCommittedProgressTest() throws Exception {
+        var body = """
+                {"title": "Imported 1", "status": "draft"}
+                {"title": "Imported 2", "status": "draft"}
+                {"title": "Imported 3", "status": "draft"}
+                {"title": "%s", "status": "draft"}
+                """.formatted("x".repeat(300));
+
+        var result = taskImportService.importTasks(stream(body), TaskExportFormat.NDJSON, null);
+        var stored = taskImportRepository.findById(result.getId()).orElseThrow();
+
+        assertEquals("FAILED", result.getStatus());
+        assertEquals(TaskImport.Status.FAILED, stored.getStatus());
+        assertEquals(2, stored.getLastCommittedLine());
+        assertEquals(2, stored.getImportedCount());
+        assertEquals(2, countImported());
+    }
+
+    @Test
+    @DisplayName("Пакет отклоняется, если импорт уже продолжен другим запросом")
+    void concurrentResumeRejectedTest() throws Exception {
+        var taskImport = new TaskImport();
+
+        taskImport.setFormat(TaskExportFormat.NDJSON.getExtension());
+        taskImport.setStatus(TaskImport.Status.IN_PROGRESS);
+        taskImport = taskImportRepository.save(taskImport);
+
+        var importId = taskImport.getId();
+        var body = """
+                {"title": "Imported 1", "status": "draft"}
+                {"title": "Imported 2", "status": "draft"}
+                """.getBytes(StandardCharsets.UTF_8);
+        var racingBody = new ByteArrayInputStream(body) {
+            private boolean raced;
+
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                if (!raced) {
+                    raced = true;
+
+                    var concurrent = taskImportRepository.findById(importId).orElseThrow();
+
+                    concurrent.setLastCommittedLine(2);
+                    concurrent.setImportedCount(2);
+                    taskImportRepository.save(concurrent);
+                }
+
+                return super.read(b, off, len);
+            }
+        };
+
+        assertThrows(OptimisticLockingFailureException.class,
+                () -> taskImportService.importTasks(racingBody, TaskExportFormat.NDJSON, importId));
+
+        var stored = taskImportRepository.findById(importId).orElseThrow();
+
+        assertEquals(TaskImport.Status.IN_PROGRESS, stored.getStatus());
+        assertEquals(2, stored.getLastCommittedLine());
+        assertEquals(0, countImported());
+    }
+
+    @Test
+    @DisplayName("Импорт CSV с заголовком и многострочными полями")
+    void importCsvTest() throws Exception {
+        var body = """
+                title,content,status,label_ids
+                Imported 1,"Multi
+                line, content",draft,
+                "Imported ""2""",,published,
+                Imported 3,,draft,abc
+                """;
+
+        var result = taskImportService.importTasks(stream(body), TaskExportFormat.CSV, null);
+
+        assertEquals(2, result.getImportedCount());
+        assertEquals(1, result.getFailedCount());
+        assertEquals(5, result.getErrors().getFirst().getLine());
+        assertEquals(5, result.getLastCommittedLine());
+
+        var tasks = taskService.findByFilter(FilterRequestDto.builder().titleCont("Imported").build());
+
+        assertEquals("Multi\nline, content", tasks.get(0).getContent());
+        assertEquals("Imported \"2\"", tasks.get(1).getTitle());
+    }
+
+    @Test
+    @DisplayName("Импорт CSV без заголовка завершается ошибкой")
+    void importCsvWithoutHeaderTest() throws Exception {
+        var result = taskImportService.importTasks(stream(""), TaskExportFormat.CSV, null);
+
+        assertEquals("FAILED", result.getStatus());
+        assertEquals(0, countImported());
+    }
+
+    private long countImported() {
+        return taskService.findByFilter(FilterRequestDto.builder().titleCont("Imported").build()).size();
+    }
+
+    private InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
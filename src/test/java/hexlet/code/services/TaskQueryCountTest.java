@@ -0,0 +1,132 @@
+package hexlet.code.services;
+
+import hexlet.code.dtos.requests.FilterRequestDto;
+import hexlet.code.dtos.requests.TaskRequestDto;
+import hexlet.code.models.Label;
+import hexlet.code.models.Task;
+import hexlet.code.repositories.LabelRepository;
+import hexlet.code.repositories.TaskRepository;
+import hexlet.code.repositories.TaskStatusRepository;
+import hexlet.code.repositories.UserRepository;
+import hexlet.code.services.impl.TaskServiceImpl;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class TaskQueryCountTest {
+    private static final int SMALL_LISTING = 10;
+    private static final int LARGE_LISTING = 1000;
+    private static final int LABEL_CHUNK_SIZE = 500;
+
+    @Autowired
+    private TaskServiceImpl taskService;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private TaskStatusRepository taskStatusRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private LabelRepository labelRepository;
+    @Autowired
+    private EntityManager entityManager;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        createTasks("Small", SMALL_LISTING);
+        createTasks("Large", LARGE_LISTING);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Метки списка задач загружаются одним запросом на каждые 500 задач")
+    void findByFilterStatementCountTest() {
+        var small = countStatements(() -> assertEquals(SMALL_LISTING,
+                taskService.findByFilter(FilterRequestDto.builder().titleCont("Small").build()).size()));
+        var large = countStatements(() -> assertEquals(LARGE_LISTING,
+                taskService.findByFilter(FilterRequestDto.builder().titleCont("Large").build()).size()));
+
+        assertEquals(small + LARGE_LISTING / LABEL_CHUNK_SIZE - 1, large);
+        assertTrue(small <= 2, "Ожидалось не более 2 запросов, выполнено " + small);
+    }
+
+    @Test
+    @DisplayName("Количество запросов при получении страницы задач не зависит от числа задач")
+    void findPageStatementCountTest() {
+        var large = countStatements(() -> {
+            var page = taskService.findPage(FilterRequestDto.builder().titleCont("Large").start(0).end(100).build());
+
+            assertEquals(100, page.getContent().size());
+            assertEquals(2, page.getContent().getFirst().getTaskLabelIds().size());
+        });
+
+        assertTrue(large <= 3, "Ожидалось не более 3 запросов, выполнено " + large);
+    }
+
+    @Test
+    @DisplayName("Массовое создание задач выполняется пакетными запросами")
+    void createAllStatementCountTest() {
+        var assignee = userRepository.findUserByEmail("hexlet@example.com").orElseThrow();
+        var labelIds = labelRepository.findAll().stream().map(Label::getId).collect(Collectors.toSet());
+        var dtos = IntStream.range(0, LARGE_LISTING)
+                .mapToObj(i -> TaskRequestDto.builder()
+                        .title("Bulk " + i)
+                        .slug("draft")
+                        .assigneeId(assignee.getId())
+                        .taskLabelIds(labelIds)
+                        .build())
+                .toList();
+
+        var statements = countStatements(() -> assertEquals(LARGE_LISTING, taskService.createAll(dtos).size()));
+
+        assertEquals(LARGE_LISTING, statistics.getEntityInsertCount());
+        assertTrue(statements < 200, "Ожидалось менее 200 запросов, выполнено " + statements);
+    }
+
+    private long countStatements(Runnable action) {
+        entityManager.clear();
+        statistics.clear();
+
+        action.run();
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void createTasks(String prefix, int count) {
+        var status = taskStatusRepository.findBySlug("draft").orElseThrow();
+        var assignee = userRepository.findUserByEmail("hexlet@example.com").orElseThrow();
+        List<Label> labels = labelRepository.findAll();
+
+        for (var i = 0; i < count; i++) {
+            var task = new Task();
+
+            task.setName(prefix + " " + i);
+            task.setTaskStatus(status);
+            task.setAssignee(assignee);
+            task.setLabels(new HashSet<>(labels));
+
+            taskRepository.save(task);
+        }
+    }
+}
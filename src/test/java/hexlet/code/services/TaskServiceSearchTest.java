@@ -0,0 +1,68 @@
+package hexlet.code.services;
+
+import hexlet.code.dtos.TaskExportFormat;
+import hexlet.code.dtos.requests.FilterRequestDto;
+import hexlet.code.dtos.requests.TaskRequestDto;
+import hexlet.code.dtos.response.TaskResponseDto;
+import hexlet.code.repositories.TaskRepository;
+import hexlet.code.services.impl.TaskServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class TaskServiceSearchTest {
+    @Autowired
+    private TaskServiceImpl taskService;
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @BeforeEach
+    void setUp() {
+        taskService.create(TaskRequestDto.builder().title("Searchable alpha").slug("draft").build());
+        taskService.create(TaskRequestDto.builder().title("Searchable beta").slug("published").build());
+        taskService.create(TaskRequestDto.builder().title("Other task").slug("draft").build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Поиск применяет фильтры и считает общее число совпадений в индексе")
+    void searchPageTest() {
+        var filter = FilterRequestDto.builder().q("searchable").slug(List.of("draft")).start(0).end(10).build();
+        var page = taskService.findPage(filter);
+
+        assertEquals(List.of("Searchable alpha"), page.getContent().stream().map(TaskResponseDto::getTitle).toList());
+        assertEquals(1, page.getTotalCount());
+
+        var all = taskService.findPage(FilterRequestDto.builder().q("searchable").sort("title").start(1).end(2).build());
+
+        assertEquals(List.of("Searchable beta"), all.getContent().stream().map(TaskResponseDto::getTitle).toList());
+        assertEquals(2, all.getTotalCount());
+    }
+
+    @Test
+    @DisplayName("Экспорт с параметром q выгружает только найденные задачи")
+    void exportSearchTest() throws Exception {
+        var out = new ByteArrayOutputStream();
+
+        taskService.export(FilterRequestDto.builder().q("searchable").build(), TaskExportFormat.NDJSON, out);
+
+        var lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+
+        assertEquals(2, lines.size());
+        assertTrue(lines.stream().noneMatch(line -> line.contains("Other task")));
+    }
+}
@@ -1,16 +1,20 @@
 package hexlet.code.services;
 
+import hexlet.code.components.TaskCsvFormat;
+import hexlet.code.dtos.TaskExportFormat;
 import hexlet.code.dtos.requests.FilterRequestDto;
 import hexlet.code.dtos.requests.LabelRequestDto;
 import hexlet.code.dtos.requests.TaskRequestDto;
 import hexlet.code.dtos.requests.TaskStatusRequestDto;
 import hexlet.code.dtos.requests.UserRequestDto;
+import hexlet.code.dtos.response.TaskResponseDto;
 import hexlet.code.dtos.response.TaskStatusResponseDto;
 import hexlet.code.dtos.response.UserResponseDto;
 import hexlet.code.services.LabelService;
 import hexlet.code.services.impl.TaskServiceImpl;
 import hexlet.code.services.impl.TaskStatusServiceImpl;
 import hexlet.code.services.impl.UserServiceImpl;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,6 +22,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -33,6 +41,8 @@ class TaskServiceTest {
     private LabelService labelService;
     @Autowired
     private UserServiceImpl userService;
+    @Autowired
+    private EntityManager entityManager;
     private TaskStatusResponseDto existingStatus;
     private UserResponseDto assignee;
 
@@ -140,8 +150,8 @@ class TaskServiceTest {
                 .taskLabelIds(Set.of(createdLabel1.getId()))
                 .assigneeId(assignee.getId()).build());
 
-        var filter = FilterRequestDto.builder().titleCont("T1").assigneeId(assignee.getId())
-                .slug(existingStatus.getSlug()).build();
+        var filter = FilterRequestDto.builder().titleCont("T1").assigneeId(List.of(assignee.getId()))
+                .slug(List.of(existingStatus.getSlug())).build();
 
         var tasks = taskService.findByFilter(filter);
 
@@ -205,13 +215,79 @@ class TaskServiceTest {
         taskService.create(TaskRequestDto.builder()
                 .title("Task 2").slug(existingStatus.getSlug()).build());
 
-        var filter = FilterRequestDto.builder().labelId(label.getId()).build();
+        var filter = FilterRequestDto.builder().labelId(List.of(label.getId())).build();
         var tasks = taskService.findByFilter(filter);
 
         assertEquals(1, tasks.size());
         assertEquals("Task 1", tasks.get(0).getTitle());
     }
 
+    @Test
+    @DisplayName("Фильтр по метке не дублирует задачи с несколькими метками")
+    void filterByLabelWithSeveralLabelsTest() {
+        var l1 = labelService.create(LabelRequestDto.builder().name("Backend").build());
+        var l2 = labelService.create(LabelRequestDto.builder().name("Frontend").build());
+
+        taskService.create(TaskRequestDto.builder()
+                .title("Both").slug(existingStatus.getSlug())
+                .taskLabelIds(Set.of(l1.getId(), l2.getId())).build());
+        taskService.create(TaskRequestDto.builder()
+                .title("Frontend only").slug(existingStatus.getSlug())
+                .taskLabelIds(Set.of(l2.getId())).build());
+
+        var byLabel = FilterRequestDto.builder().labelId(List.of(l2.getId()))
+                .slug(List.of(existingStatus.getSlug())).build();
+        var byOtherLabel = FilterRequestDto.builder().labelId(List.of(l1.getId())).build();
+
+        assertEquals(2, taskService.findByFilter(byLabel).size());
+        assertEquals(2, taskService.findPage(byLabel).getTotalCount());
+        assertEquals(List.of("Both"), taskService.findByFilter(byOtherLabel).stream()
+                .map(TaskResponseDto::getTitle).toList());
+    }
+
+    @Test
+    @DisplayName("Фильтрация задач по нескольким значениям и диапазонам")
+    void filterByMultipleValuesTest() {
+        var l1 = labelService.create(LabelRequestDto.builder().name("Backend").build());
+        var l2 = labelService.create(LabelRequestDto.builder().name("Frontend").build());
+
+        taskService.create(TaskRequestDto.builder().title("Multi A").index(1).slug(existingStatus.getSlug())
+                .taskLabelIds(Set.of(l1.getId(), l2.getId())).build());
+        taskService.create(TaskRequestDto.builder().title("Multi B").index(5).slug(existingStatus.getSlug())
+                .taskLabelIds(Set.of(l1.getId())).build());
+        taskService.create(TaskRequestDto.builder().title("Multi C").index(10).slug("draft")
+                .assigneeId(assignee.getId()).taskLabelIds(Set.of(l2.getId())).build());
+
+        var labels = List.of(l1.getId(), l2.getId());
+
+        assertEquals(List.of("Multi A", "Multi B", "Multi C"), titles(FilterRequestDto.builder()
+                .titleCont("Multi").slug(List.of(existingStatus.getSlug(), "draft")).build()));
+        assertEquals(List.of("Multi A", "Multi B", "Multi C"), titles(FilterRequestDto.builder()
+                .labelId(labels).labelMatch("any").build()));
+        assertEquals(List.of("Multi A"), titles(FilterRequestDto.builder()
+                .labelId(labels).labelMatch("all").build()));
+        assertEquals(List.of("Multi C"), titles(FilterRequestDto.builder()
+                .assigneeId(List.of(assignee.getId(), -1L)).build()));
+        assertEquals(List.of("Multi B", "Multi C"), titles(FilterRequestDto.builder()
+                .titleCont("Multi").indexFrom(2).indexTo(10).build()));
+        assertEquals(List.of(), titles(FilterRequestDto.builder()
+                .titleCont("Multi").createdAtFrom(LocalDateTime.now().plusDays(1)).build()));
+        assertEquals(3, titles(FilterRequestDto.builder()
+                .titleCont("Multi").createdAtTo(LocalDateTime.now().plusDays(1)).build()).size());
+    }
+
+    @Test
+    @DisplayName("Ошибка при неизвестном режиме сопоставления меток")
+    void filterWithInvalidLabelMatchTest() {
+        var filter = FilterRequestDto.builder().labelId(List.of(1L)).labelMatch("some").build();
+
+        assertThrows(IllegalArgumentException.class, () -> taskService.findByFilter(filter));
+    }
+
+    private List<String> titles(FilterRequestDto filter) {
+        return taskService.findByFilter(filter).stream().map(TaskResponseDto::getTitle).toList();
+    }
+
     @Test
     @DisplayName("Обновление меток задачи (замена старых на новые)")
     void updateTaskLabelsTest() {
@@ -245,5 +321,142 @@ class TaskServiceTest {
 
         assertFalse(tasks.isEmpty());
     }
-}
 
+    @Test
+    @DisplayName("Постраничное получение задач по курсору")
+    void findPageByCursorTest() {
+        for (var i = 1; i <= 5; i++) {
+            taskService.create(TaskRequestDto.builder()
+                    .title("Page " + i).slug(existingStatus.getSlug()).build());
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        var filter = FilterRequestDto.builder().titleCont("Page ").start(0).end(2).build();
+        var first = taskService.findPage(filter);
+
+        assertEquals(5L, first.getTotalCount());
+        assertEquals(List.of("Page 1", "Page 2"), first.getContent().stream().map(TaskResponseDto::getTitle).toList());
+        assertNotNull(first.getNextCursor());
+
+        filter.setCursor(first.getNextCursor());
+        filter.setCount(false);
+        var second = taskService.findPage(filter);
+
+        assertNull(second.getTotalCount());
+        assertEquals(List.of("Page 3", "Page 4"), second.getContent().stream().map(TaskResponseDto::getTitle).toList());
+
+        filter.setCursor(second.getNextCursor());
+        var third = taskService.findPage(filter);
+
+        assertEquals(List.of("Page 5"), third.getContent().stream().map(TaskResponseDto::getTitle).toList());
+        assertNull(third.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("Постраничное получение задач по смещению")
+    void findPageByOffsetTest() {
+        for (var i = 1; i <= 3; i++) {
+            taskService.create(TaskRequestDto.builder()
+                    .title("Offset " + i).slug(existingStatus.getSlug()).build());
+        }
+
+        var filter = FilterRequestDto.builder().titleCont("Offset ").start(1).end(3).build();
+        var page = taskService.findPage(filter);
+
+        assertEquals(3L, page.getTotalCount());
+        assertEquals(List.of("Offset 2", "Offset 3"), page.getContent().stream().map(TaskResponseDto::getTitle).toList());
+    }
+
+    @Test
+    @DisplayName("Сортировка задач на стороне БД вместе с пагинацией")
+    void findPageSortedTest() {
+        for (var title : List.of("Sorted b", "Sorted c", "Sorted a")) {
+            taskService.create(TaskRequestDto.builder().title(title).slug(existingStatus.getSlug()).build());
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        var byTitle = FilterRequestDto.builder().titleCont("Sorted").sort("title").order("DESC").start(0).end(2)
+                .build();
+        var page = taskService.findPage(byTitle);
+
+        assertEquals(List.of("Sorted c", "Sorted b"), page.getContent().stream().map(TaskResponseDto::getTitle)
+                .toList());
+        assertNull(page.getNextCursor());
+
+        var newest = FilterRequestDto.builder().titleCont("Sorted").sort("createdAt").order("DESC").start(0).end(2)
+                .build();
+        var first = taskService.findPage(newest);
+
+        assertEquals(List.of("Sorted a", "Sorted c"), first.getContent().stream().map(TaskResponseDto::getTitle)
+                .toList());
+
+        newest.setCursor(first.getNextCursor());
+
+        assertEquals(List.of("Sorted b"), taskService.findPage(newest).getContent().stream()
+                .map(TaskResponseDto::getTitle).toList());
+
+        byTitle.setCursor(first.getNextCursor());
+
+        assertThrows(IllegalArgumentException.class, () -> taskService.findPage(byTitle));
+        assertThrows(IllegalArgumentException.class,
+                () -> taskService.findPage(FilterRequestDto.builder().sort("description").build()));
+    }
+
+    @Test
+    @DisplayName("Ошибка при некорректном курсоре")
+    void findPageWithInvalidCursorTest() {
+        var filter = FilterRequestDto.builder().cursor("not a cursor").build();
+
+        assertThrows(IllegalArgumentException.class, () -> taskService.findPage(filter));
+    }
+
+    @Test
+    @DisplayName("Версии задачи меняются при изменении её статуса")
+    void findVersionsTracksStatusTest() {
+        var created = taskService.create(TaskRequestDto.builder()
+                .title("Versioned").slug(existingStatus.getSlug()).build());
+        var before = taskService.findVersions(created.getId());
+
+        taskStatusService.update(TaskStatusRequestDto.builder().id(existingStatus.getId()).name("Renamed")
+                .slug("renamed_slug").build());
+        entityManager.flush();
+
+        var after = taskService.findVersions(created.getId());
+
+        assertEquals(before.version(), after.version());
+        assertTrue(after.statusVersion() > before.statusVersion());
+    }
+
+    @Test
+    @DisplayName("Экспорт задач в NDJSON и CSV")
+    void exportTest() throws Exception {
+        var label = labelService.create(LabelRequestDto.builder().name("Export").build());
+
+        taskService.create(TaskRequestDto.builder()
+                .title("Export, first").content("Line \"quoted\"").slug(existingStatus.getSlug())
+                .taskLabelIds(Set.of(label.getId())).build());
+        taskService.create(TaskRequestDto.builder()
+                .title("Export second").slug(existingStatus.getSlug()).build());
+
+        var filter = FilterRequestDto.builder().titleCont("Export").build();
+        var ndjson = new ByteArrayOutputStream();
+        var csv = new ByteArrayOutputStream();
+
+        taskService.export(filter, TaskExportFormat.NDJSON, ndjson);
+        taskService.export(filter, TaskExportFormat.CSV, csv);
+
+        var jsonLines = ndjson.toString(StandardCharsets.UTF_8).lines().toList();
+        var csvLines = csv.toString(StandardCharsets.UTF_8).lines().toList();
+
+        assertEquals(2, jsonLines.size());
+        assertTrue(jsonLines.get(0).contains("\"title\":\"Export, first\""));
+        assertTrue(jsonLines.get(0).contains("\"taskLabelIds\":[" + label.getId() + "]"));
+        assertEquals(3, csvLines.size());
+        assertEquals(TaskCsvFormat.HEADER, csvLines.get(0));
+        assertTrue(csvLines.get(1).contains("\"Export, first\",\"Line \"\"quoted\"\"\",new_slug"));
+    }
+}
@@ -3,11 +3,15 @@ package hexlet.code.services;
 import hexlet.code.dtos.requests.TaskRequestDto;
 import hexlet.code.dtos.requests.TaskStatusRequestDto;
 import hexlet.code.dtos.requests.UserRequestDto;
+import hexlet.code.dtos.response.TaskStatusResponseDto;
+import hexlet.code.exceptions.PreconditionFailedException;
 import hexlet.code.repositories.TaskRepository;
 import hexlet.code.repositories.TaskStatusRepository;
 import hexlet.code.services.impl.TaskServiceImpl;
 import hexlet.code.services.impl.TaskStatusServiceImpl;
 import hexlet.code.services.impl.UserServiceImpl;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,11 +19,18 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
 
 import static org.junit.jupiter.api.Assertions.*;
 
 
-@SpringBootTest
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 public class TaskStatusServiceTest {
     @Autowired
     private TaskStatusRepository taskStatusRepository;
@@ -31,6 +42,10 @@ public class TaskStatusServiceTest {
     private UserServiceImpl userService;
     @Autowired
     private TaskServiceImpl taskService;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
 
     @BeforeEach
     public void setUp() {
@@ -98,6 +113,20 @@ public class TaskStatusServiceTest {
         assertNotNull(createdStatus2.getCreatedAt());
     }
 
+    @Test
+    @DisplayName("Получаем статусы, отсортированные на стороне БД")
+    public void testFindAllSorted() {
+        taskStatusService.create(TaskStatusRequestDto.builder().name("New").slug("slug").build());
+        taskStatusService.create(TaskStatusRequestDto.builder().name("In progress").slug("slug2").build());
+
+        assertEquals(List.of("In progress", "New"), taskStatusService.findAll("name", null).stream()
+                .map(TaskStatusResponseDto::getName).toList());
+        assertEquals(List.of("slug2", "slug"), taskStatusService.findAll("slug", "DESC").stream()
+                .map(TaskStatusResponseDto::getSlug).toList());
+        assertThrows(IllegalArgumentException.class, () -> taskStatusService.findAll("password", null));
+        assertThrows(IllegalArgumentException.class, () -> taskStatusService.findAll("name", "up"));
+    }
+
     @Test
     @DisplayName("Удаляем статус")
     public void testDelete() {
@@ -149,6 +178,43 @@ public class TaskStatusServiceTest {
         assertNotNull(updatedTaskStatus.getCreatedAt());
     }
 
+    @Test
+    @DisplayName("Обновление с устаревшей версией отклоняется")
+    public void testUpdateWithStaleVersion() {
+        var created = taskStatusService.create(TaskStatusRequestDto.builder().name("New").slug("slug").build());
+        var updated = taskStatusService.update(TaskStatusRequestDto.builder().id(created.getId()).name("Updated")
+                .build(), created.getVersion());
+
+        assertEquals(created.getVersion() + 1, updated.getVersion());
+        assertEquals(updated.getVersion(), taskStatusService.findVersion(created.getId()));
+
+        var stale = TaskStatusRequestDto.builder().id(created.getId()).name("Stale").build();
+
+        assertThrows(PreconditionFailedException.class, () -> taskStatusService.update(stale, created.getVersion()));
+        assertEquals("Updated", taskStatusService.findById(created.getId()).getName());
+    }
+
+    @Test
+    @DisplayName("Параллельное обновление завершается конфликтом")
+    public void testConcurrentUpdateConflict() {
+        var created = taskStatusService.create(TaskStatusRequestDto.builder().name("New").slug("slug").build());
+        var requiresNew = new TransactionTemplate(transactionManager);
+
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        assertThrows(OptimisticLockingFailureException.class, () -> new TransactionTemplate(transactionManager)
+                .executeWithoutResult(status -> {
+                    var loaded = taskStatusService.findByIdEntity(created.getId());
+
+                    requiresNew.executeWithoutResult(inner -> taskStatusService.update(TaskStatusRequestDto.builder()
+                            .id(created.getId()).name("Concurrent").build()));
+
+                    taskStatusService.update(TaskStatusRequestDto.builder().id(created.getId()).name("Mine").build(),
+                            loaded.getVersion());
+                }));
+        assertEquals("Concurrent", taskStatusService.findById(created.getId()).getName());
+    }
+
     @Test
     @DisplayName("Пытаемся удалить статус, связанный с задачей")
     public void testDeleteFail() {
@@ -162,4 +228,31 @@ public class TaskStatusServiceTest {
 
         assertThrows(RuntimeException.class, () -> taskStatusService.delete(taskStatusDto.getId()));
     }
+
+    @Test
+    @DisplayName("Повторный поиск статуса по slug берётся из кэша")
+    public void testFindBySlugCached() {
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        taskStatusService.create(TaskStatusRequestDto.builder().name("Cached").slug("cached").build());
+        taskStatusService.findBySlug("cached");
+        statistics.clear();
+
+        var taskStatus = taskStatusService.findBySlug("cached");
+
+        assertEquals("Cached", taskStatus.getName());
+        assertEquals(1, statistics.getQueryCacheHitCount());
+        assertEquals(0, statistics.getQueryExecutionCount());
+    }
+
+    @Test
+    @DisplayName("Изменение статуса сбрасывает кэш поиска по slug")
+    public void testUpdateEvictsCache() {
+        var created = taskStatusService.create(TaskStatusRequestDto.builder().name("Cached").slug("cached").build());
+
+        taskStatusService.findBySlug("cached");
+        taskStatusService.update(TaskStatusRequestDto.builder().id(created.getId()).name("Renamed").slug("cached").build());
+
+        assertEquals("Renamed", taskStatusService.findBySlug("cached").getName());
+    }
 }
@@ -1,9 +1,13 @@
 package hexlet.code.services;
 
+import hexlet.code.components.JwtPrincipalCache;
+import hexlet.code.components.TokenVersionCache;
+import hexlet.code.components.VerifiedCredentialCache;
 import hexlet.code.dtos.requests.TaskRequestDto;
 import hexlet.code.dtos.requests.TaskStatusRequestDto;
 import hexlet.code.dtos.requests.UserRequestDto;
 import hexlet.code.dtos.response.UserResponseDto;
+import hexlet.code.models.User;
 import hexlet.code.repositories.TaskStatusRepository;
 import hexlet.code.repositories.UserRepository;
 import hexlet.code.services.impl.TaskServiceImpl;
@@ -18,7 +22,11 @@ import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Instant;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -37,6 +45,14 @@ class UserServiceTest {
     private TaskStatusServiceImpl taskStatusService;
     @Autowired
     private TaskStatusRepository taskStatusRepository;
+    @Autowired
+    private JwtPrincipalCache principalCache;
+    @Autowired
+    private VerifiedCredentialCache credentialCache;
+    @Autowired
+    private TokenVersionCache tokenVersions;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
 
     @BeforeEach
     void setUp() {
@@ -242,4 +258,113 @@ class UserServiceTest {
 
         assertThrows(RuntimeException.class, () -> userService.delete(createdUserDto.getId()));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("При обновлении и удалении пользователя кэш аутентификации сбрасывается")
+    void updateAndDeleteUserEvictsPrincipalCacheTest() {
+        var createdUserDto = userService.create(UserRequestDto.builder().password("password").email("1@ya.ru").build());
+
+        principalCache.put("token", userService.loadUserByUsername("1@ya.ru"), Instant.now().plusSeconds(60));
+        userService.update(UserRequestDto.builder().id(createdUserDto.getId()).firstName("John").build());
+
+        assertNull(principalCache.get("token"));
+
+        principalCache.put("token", userService.loadUserByUsername("1@ya.ru"), Instant.now().plusSeconds(60));
+        userService.delete(createdUserDto.getId());
+
+        assertNull(principalCache.get("token"));
+    }
+
+    @Test
+    @DisplayName("Кэш аутентификации сбрасывается только после фиксации транзакции")
+    void principalCacheEvictedAfterCommitTest() {
+        var createdUserDto = userService.create(UserRequestDto.builder().password("password").email("1@ya.ru").build());
+        var transactionTemplate = new TransactionTemplate(transactionManager);
+
+        principalCache.put("token", userService.loadUserByUsername("1@ya.ru"), Instant.now().plusSeconds(60));
+        transactionTemplate.executeWithoutResult(status -> {
+            userService.update(UserRequestDto.builder().id(createdUserDto.getId()).firstName("John").build());
+
+            assertNotNull(principalCache.get("token"));
+        });
+
+        assertNull(principalCache.get("token"));
+
+        principalCache.put("token", userService.loadUserByUsername("1@ya.ru"), Instant.now().plusSeconds(60));
+        transactionTemplate.executeWithoutResult(status -> {
+            userService.update(UserRequestDto.builder().id(createdUserDto.getId()).firstName("Jane").build());
+            status.setRollbackOnly();
+        });
+
+        assertNotNull(principalCache.get("token"));
+    }
+
+    @Test
+    @DisplayName("Смена пароля увеличивает версию токенов пользователя")
+    void updatePasswordBumpsTokenVersionTest() {
+        var createdUserDto = userService.create(UserRequestDto.builder().password("password").email("1@ya.ru").build());
+
+        userService.update(UserRequestDto.builder().id(createdUserDto.getId()).firstName("John").build());
+
+        assertEquals(0, userRepository.findTokenVersionById(createdUserDto.getId()).orElseThrow());
+
+        userService.update(UserRequestDto.builder().id(createdUserDto.getId()).password("new-password").build());
+
+        assertEquals(1, userRepository.findTokenVersionById(createdUserDto.getId()).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Откат смены пароля не меняет закэшированную версию токенов")
+    void rolledBackPasswordChangeKeepsTokenVersionTest() {
+        var createdUserDto = userService.create(UserRequestDto.builder().password("password").email("1@ya.ru").build());
+
+        assertTrue(tokenVersions.isCurrent(createdUserDto.getId(), 0));
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            userService.update(UserRequestDto.builder().id(createdUserDto.getId()).password("new-password").build());
+            status.setRollbackOnly();
+        });
+
+        assertTrue(tokenVersions.isCurrent(createdUserDto.getId(), 0));
+
+        userService.update(UserRequestDto.builder().id(createdUserDto.getId()).password("new-password").build());
+
+        assertFalse(tokenVersions.isCurrent(createdUserDto.getId(), 0));
+        assertTrue(tokenVersions.isCurrent(createdUserDto.getId(), 1));
+    }
+
+    @Test
+    @DisplayName("При входе устаревший хэш пароля перекодируется")
+    void authenticateUpgradesLegacyPasswordHashTest() {
+        var user = new User();
+
+        user.setEmail("legacy@ya.ru");
+        user.setPassword(new BCryptPasswordEncoder(4).encode("password"));
+        user.setRole("ROLE_USER");
+        userRepository.save(user);
+
+        userService.authenticate("legacy@ya.ru", "password");
+
+        var upgraded = userRepository.findUserByEmail("legacy@ya.ru").orElseThrow();
+
+        assertTrue(upgraded.getPassword().startsWith("{bcrypt}"));
+        assertEquals(0, upgraded.getTokenVersion());
+        assertNotNull(userService.authenticate("legacy@ya.ru", "password"));
+    }
+
+    @Test
+    @DisplayName("Кэш проверенных учётных данных сбрасывается при обновлении пользователя")
+    void updateUserEvictsVerifiedCredentialsTest() {
+        var createdUserDto = userService.create(UserRequestDto.builder().password("password").email("1@ya.ru").build());
+        var userDetails = userService.loadUserByUsername("1@ya.ru");
+
+        credentialCache.put("1@ya.ru", "password", userDetails);
+
+        assertEquals(userDetails, credentialCache.get("1@ya.ru", "password"));
+        assertNull(credentialCache.get("1@ya.ru", "wrong-password"));
+
+        userService.update(UserRequestDto.builder().id(createdUserDto.getId()).password("new-password").build());
+
+        assertNull(credentialCache.get("1@ya.ru", "password"));
+    }
+}